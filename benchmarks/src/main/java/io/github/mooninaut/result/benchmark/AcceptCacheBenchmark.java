@@ -0,0 +1,84 @@
+package io.github.mooninaut.result.benchmark;
+
+import io.github.mooninaut.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * AcceptCacheBenchmark.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Measures {@link Result#accept} for values that can be served from a shared cache, and for one that cannot.
+ * Results are returned to JMH so they escape, as they would when stored or passed through a stream.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AcceptCacheBenchmark {
+
+    private boolean flag;
+    private int counter;
+    private Thread.State state;
+    private String string;
+
+    @Setup
+    public void setup() {
+        state = Thread.State.RUNNABLE;
+        string = "not cached";
+    }
+
+    @Benchmark
+    public Result<Boolean> acceptBoolean() {
+        flag = !flag;
+        return Result.accept(flag);
+    }
+
+    @Benchmark
+    public Result<Integer> acceptSmallInteger() {
+        counter = (counter + 1) & 63;
+        return Result.accept(counter);
+    }
+
+    @Benchmark
+    public Result<Thread.State> acceptEnum() {
+        return Result.accept(state);
+    }
+
+    @Benchmark
+    public Result<String> acceptUncached() {
+        return Result.accept(string);
+    }
+
+    @Benchmark
+    public Result<Boolean> mapToBoolean() {
+        counter++;
+        return Result.accept(string).map(s -> (counter & 1) == 0);
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.mooninaut.result.benchmark;
+
+import io.github.mooninaut.result.Result;
+import io.github.mooninaut.result.Results;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/*
+ * BatchedMapBenchmark.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Compares one call per element through {@link Results#exMapper} with {@link Results#exMapBatched}, against a
+ * simulated service whose fixed cost per call dwarfs its cost per item, like a database round-trip.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchedMapBenchmark {
+    private static final long CALL_TOKENS = 2_000;
+    private static final long ITEM_TOKENS = 20;
+
+    @Param({"10000"})
+    public int size;
+
+    @Param({"0", "50"})
+    public int rejectedPercent;
+
+    @Param({"10", "100"})
+    public int batchSize;
+
+    private List<Result<String>> results;
+
+    @Setup
+    public void setup() {
+        results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(Outcome.mixed(i, rejectedPercent).result());
+        }
+    }
+
+    private static Integer lookup(String in) {
+        Blackhole.consumeCPU(CALL_TOKENS + ITEM_TOKENS);
+        return in == null ? null : in.length();
+    }
+
+    private static List<Integer> lookupAll(List<String> in) {
+        Blackhole.consumeCPU(CALL_TOKENS + ITEM_TOKENS * in.size());
+        List<Integer> out = new ArrayList<>(in.size());
+        for (String value : in) {
+            out.add(value == null ? null : value.length());
+        }
+        return out;
+    }
+
+    @Benchmark
+    public List<Result<Integer>> perElement() {
+        return results.stream().map(Results.exMapper(BatchedMapBenchmark::lookup)).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Result<Integer>> batched() {
+        return Results.exMapBatched(results.stream(), BatchedMapBenchmark::lookupAll, batchSize)
+            .collect(Collectors.toList());
+    }
+}
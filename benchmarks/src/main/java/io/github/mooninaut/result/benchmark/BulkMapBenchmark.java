@@ -0,0 +1,80 @@
+package io.github.mooninaut.result.benchmark;
+
+import io.github.mooninaut.result.Result;
+import io.github.mooninaut.result.Results;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/*
+ * BulkMapBenchmark.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Compares {@link Results#exMapAll} with the equivalent sequential and parallel streams.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkMapBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"0", "50"})
+    public int rejectedPercent;
+
+    private List<Result<String>> results;
+
+    @Setup
+    public void setup() {
+        results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(Outcome.mixed(i, rejectedPercent).result());
+        }
+    }
+
+    @Benchmark
+    public List<Result<Integer>> stream() {
+        return results.stream().map(Results.exMapper(Outcome::parse)).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Result<Integer>> parallelStream() {
+        return results.parallelStream().map(Results.exMapper(Outcome::parse)).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Result<Integer>> exMapAll() {
+        return Results.exMapAll(results, Outcome::parse);
+    }
+}
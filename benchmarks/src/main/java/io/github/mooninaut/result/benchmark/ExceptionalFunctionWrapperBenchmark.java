@@ -0,0 +1,75 @@
+package io.github.mooninaut.result.benchmark;
+
+import io.github.mooninaut.result.ExceptionalFunctionWrapper;
+import io.github.mooninaut.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * ExceptionalFunctionWrapperBenchmark.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Measures {@link ExceptionalFunctionWrapper#apply}, untimed and timed, for inputs that are accepted, empty and rejected.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExceptionalFunctionWrapperBenchmark {
+
+    @Param({"ACCEPTED", "EMPTY", "REJECTED"})
+    public Outcome outcome;
+
+    private String input;
+    private ExceptionalFunctionWrapper<String, Integer> wrapper;
+    private ExceptionalFunctionWrapper<String, Integer> timedWrapper;
+
+    @Setup
+    public void setup() {
+        input = outcome.input();
+        wrapper = ExceptionalFunctionWrapper.wrap(Outcome::parse);
+        timedWrapper = ExceptionalFunctionWrapper.timed(Outcome::parse);
+    }
+
+    @Benchmark
+    public Result<Integer> apply() {
+        return wrapper.apply(input);
+    }
+
+    @Benchmark
+    public Result<Integer> timedApply() {
+        return timedWrapper.apply(input);
+    }
+
+    @Benchmark
+    public Result<Integer> wrapAndApply() {
+        return ExceptionalFunctionWrapper.<String, Integer>wrap(Outcome::parse).apply(input);
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.mooninaut.result.benchmark;
+
+import io.github.mooninaut.result.ExceptionalFunctionWrapper;
+import io.github.mooninaut.result.OutcomeCounters;
+import io.github.mooninaut.result.Result;
+import io.github.mooninaut.result.ResultInstrumentation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * InstrumentationBenchmark.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Measures the cost of {@link ResultInstrumentation} on {@link ExceptionalFunctionWrapper#apply}, with nothing
+ * installed and with {@link OutcomeCounters} installed.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstrumentationBenchmark {
+
+    @Param({"ACCEPTED", "REJECTED"})
+    public Outcome outcome;
+
+    @Param({"false", "true"})
+    public boolean instrumented;
+
+    private String input;
+    private ExceptionalFunctionWrapper<String, Integer> wrapper;
+
+    @Setup
+    public void setup() {
+        input = outcome.input();
+        wrapper = ExceptionalFunctionWrapper.wrap("parse", Outcome::parse);
+        if (instrumented) {
+            ResultInstrumentation.install(new OutcomeCounters());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        ResultInstrumentation.uninstall();
+    }
+
+    @Benchmark
+    public Result<Integer> apply() {
+        return wrapper.apply(input);
+    }
+}
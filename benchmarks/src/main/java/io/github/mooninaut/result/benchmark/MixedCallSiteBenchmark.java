@@ -0,0 +1,93 @@
+package io.github.mooninaut.result.benchmark;
+
+import io.github.mooninaut.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * MixedCallSiteBenchmark.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Runs accepted, empty and rejected Results through the same {@code isAccepted()} and {@code map()} call sites,
+ * once with the default one-class-per-state layout and once with the single-class tagged layout.
+ * With {@code states = 3} the default layout's call sites are megamorphic.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MixedCallSiteBenchmark {
+    private static final int SIZE = 1024;
+
+    /**
+     * How many distinct states appear at the call site: accepted only, accepted and rejected, or all three.
+     */
+    @Param({"1", "2", "3"})
+    public int states;
+
+    private Result<String>[] results;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        Outcome[] cycle = {Outcome.ACCEPTED, Outcome.REJECTED, Outcome.EMPTY};
+        results = new Result[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            results[i] = cycle[i % states].result();
+        }
+    }
+
+    @Benchmark
+    public int classes() {
+        return run();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dio.github.mooninaut.result.layout=tagged")
+    public int tagged() {
+        return run();
+    }
+
+    private int run() {
+        int sum = 0;
+        for (Result<String> result : results) {
+            if (result.isAccepted()) {
+                sum++;
+            }
+            Result<Integer> length = result.map(MixedCallSiteBenchmark::length);
+            sum += length.orElse(-1);
+        }
+        return sum;
+    }
+
+    private static Integer length(String in) {
+        return in == null ? 0 : in.length();
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.mooninaut.result.benchmark;
+
+import io.github.mooninaut.result.Result;
+
+/*
+ * Outcome.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * The three states a Result can be in, used as a JMH {@code @Param} so each benchmark covers all of them.
+ */
+public enum Outcome {
+    ACCEPTED {
+        @Override
+        public Result<String> result() {
+            return Result.accept(VALUE);
+        }
+
+        @Override
+        public String input() {
+            return VALUE;
+        }
+    },
+    EMPTY {
+        @Override
+        public Result<String> result() {
+            return Result.empty();
+        }
+
+        @Override
+        public String input() {
+            return null;
+        }
+    },
+    REJECTED {
+        @Override
+        public Result<String> result() {
+            return Result.reject(EXCEPTION);
+        }
+
+        @Override
+        public String input() {
+            return FAIL;
+        }
+    };
+
+    static final String VALUE = "12345";
+    static final String FAIL = "fail";
+    static final Exception EXCEPTION = new Exception(FAIL);
+
+    /**
+     * A Result in this state.
+     */
+    public abstract Result<String> result();
+
+    /**
+     * An input which, passed to {@link #parse(String)}, produces this state.
+     */
+    public abstract String input();
+
+    /**
+     * An ExceptionalFunction that accepts {@link #VALUE}, is empty for {@code null}
+     * and throws a preallocated checked exception for anything else.
+     */
+    public static Integer parse(String in) throws Exception {
+        if (in == null) {
+            return null;
+        }
+        if (FAIL.equals(in)) {
+            throw EXCEPTION;
+        }
+        return in.length();
+    }
+
+    /**
+     * Picks the Outcome for element {@code index} of a mixed input in which {@code rejectedPercent} percent
+     * of the elements are rejected, one in ten of the rest is empty, and the remainder are accepted.
+     */
+    public static Outcome mixed(int index, int rejectedPercent) {
+        int bucket = index % 100;
+        if (bucket < rejectedPercent) {
+            return REJECTED;
+        }
+        if (bucket % 10 == 9) {
+            return EMPTY;
+        }
+        return ACCEPTED;
+    }
+}
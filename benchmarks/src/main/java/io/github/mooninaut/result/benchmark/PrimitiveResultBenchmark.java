@@ -0,0 +1,76 @@
+package io.github.mooninaut.result.benchmark;
+
+import io.github.mooninaut.result.IntResult;
+import io.github.mooninaut.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * PrimitiveResultBenchmark.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Compares parsing and arithmetic through {@code Result<Integer>} with the same work through {@link IntResult}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveResultBenchmark {
+
+    @Param({"ACCEPTED", "REJECTED"})
+    public Outcome outcome;
+
+    private Result<String> result;
+
+    @Setup
+    public void setup() {
+        result = outcome == Outcome.ACCEPTED ? Result.accept("1234567") : Result.accept("x");
+    }
+
+    @Benchmark
+    public int boxed() {
+        Result<Integer> parsed = result.exMap(PrimitiveResultBenchmark::parse);
+        parsed = parsed.map(i -> i * 3);
+        return parsed.orElse(-1);
+    }
+
+    @Benchmark
+    public int primitive() {
+        return result.exMapToInt(PrimitiveResultBenchmark::parse).map(i -> i * 3).orElse(-1);
+    }
+
+    private static int parse(String in) throws Exception {
+        try {
+            return Integer.parseInt(in);
+        } catch (NumberFormatException nfe) {
+            throw new Exception(nfe);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.mooninaut.result.benchmark;
+
+import io.github.mooninaut.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * ResultFactoryBenchmark.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Measures the static factories {@link Result#accept}, {@link Result#reject} and {@link Result#of}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultFactoryBenchmark {
+
+    @Param({"ACCEPTED", "EMPTY", "REJECTED"})
+    public Outcome outcome;
+
+    private String input;
+
+    @Setup
+    public void setup() {
+        input = outcome.input();
+    }
+
+    @Benchmark
+    public Result<String> accept() {
+        return Result.accept(input);
+    }
+
+    @Benchmark
+    public Result<String> reject() {
+        return Result.reject(Outcome.EXCEPTION);
+    }
+
+    @Benchmark
+    public Result<String> rejectStackless() {
+        return Result.rejectStackless(Outcome.FAIL);
+    }
+
+    @Benchmark
+    public Result<String> rejectLazily() {
+        return Result.rejectLazily(() -> new Exception(Outcome.FAIL));
+    }
+
+    @Benchmark
+    public Result<Integer> of() {
+        return Result.of(() -> Outcome.parse(input));
+    }
+
+    /**
+     * Like {@link #of()}, but allocates a new exception on every rejection, as most real code does.
+     */
+    @Benchmark
+    public Result<Integer> ofFreshException() {
+        return Result.of(() -> {
+            if (Outcome.FAIL.equals(input)) {
+                throw new Exception(input);
+            }
+            return Outcome.parse(input);
+        });
+    }
+}
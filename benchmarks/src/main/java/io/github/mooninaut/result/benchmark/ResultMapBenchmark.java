@@ -0,0 +1,118 @@
+package io.github.mooninaut.result.benchmark;
+
+import io.github.mooninaut.result.Result;
+import io.github.mooninaut.result.ResultPipeline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/*
+ * ResultMapBenchmark.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Measures {@link Result#map} and {@link Result#exMap} on accepted, empty and rejected Results, and chains of
+ * maps against the same steps fused by a {@link ResultPipeline}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultMapBenchmark {
+    private static final int LONG_CHAIN_INCREMENTS = 16;
+
+    @Param({"ACCEPTED", "EMPTY", "REJECTED"})
+    public Outcome outcome;
+
+    private Result<String> result;
+    private Function<Result<String>, Result<Integer>> fusedChain;
+    private Function<Result<String>, Result<Integer>> longFusedChain;
+
+    @Setup
+    public void setup() {
+        result = outcome.result();
+        fusedChain = ResultPipeline.start(String.class)
+                .map(ResultMapBenchmark::length)
+                .map(ResultMapBenchmark::increment)
+                .map(ResultMapBenchmark::increment)
+                .map(ResultMapBenchmark::increment)
+                .build();
+        ResultPipeline<String, Integer> longPipeline = ResultPipeline.start(String.class)
+                .map(ResultMapBenchmark::length);
+        for (int i = 0; i < LONG_CHAIN_INCREMENTS; i++) {
+            longPipeline = longPipeline.map(ResultMapBenchmark::increment);
+        }
+        longFusedChain = longPipeline.build();
+    }
+
+    @Benchmark
+    public Result<Integer> map() {
+        return result.map(ResultMapBenchmark::length);
+    }
+
+    @Benchmark
+    public Result<Integer> exMap() {
+        return result.exMap(Outcome::parse);
+    }
+
+    @Benchmark
+    public Result<Integer> mapChain() {
+        Result<Integer> mapped = result.map(ResultMapBenchmark::length);
+        mapped = mapped.map(ResultMapBenchmark::increment);
+        mapped = mapped.map(ResultMapBenchmark::increment);
+        return mapped.map(ResultMapBenchmark::increment);
+    }
+
+    @Benchmark
+    public Result<Integer> mapChainFused() {
+        return fusedChain.apply(result);
+    }
+
+    @Benchmark
+    public Result<Integer> longMapChain() {
+        Result<Integer> mapped = result.map(ResultMapBenchmark::length);
+        for (int i = 0; i < LONG_CHAIN_INCREMENTS; i++) {
+            mapped = mapped.map(ResultMapBenchmark::increment);
+        }
+        return mapped;
+    }
+
+    @Benchmark
+    public Result<Integer> longMapChainFused() {
+        return longFusedChain.apply(result);
+    }
+
+    private static Integer length(String in) {
+        return in == null ? 0 : in.length();
+    }
+
+    private static Integer increment(Integer in) {
+        return in + 1;
+    }
+}
@@ -0,0 +1,176 @@
+package io.github.mooninaut.result.benchmark;
+
+import io.github.mooninaut.result.ExceptionGroups;
+import io.github.mooninaut.result.IntResult;
+import io.github.mooninaut.result.Result;
+import io.github.mooninaut.result.Results;
+import io.github.mooninaut.result.SplitStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/*
+ * ResultsStreamBenchmark.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Measures {@link Results#valueStream}, {@link Results#splitStream}, {@link Results#partition} and the summarizing and
+ * routing collectors over a list of mixed Results, sequentially and in parallel.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultsStreamBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({"0", "50", "100"})
+    public int rejectedPercent;
+
+    private static final Exception[] ROUTED_EXCEPTIONS = {
+        new IOException(),
+        new IllegalArgumentException(),
+        new UncheckedIOException(new IOException()),
+        new NumberFormatException(),
+        new IllegalStateException(),
+    };
+
+    private static final Collector<Result<String>, ?, ExceptionGroups<String>> ROUTING =
+        Results.groupingByException(IOException.class, IllegalArgumentException.class, RuntimeException.class);
+
+    private List<Result<String>> results;
+    private List<Result<String>> routedResults;
+    private List<Result<Integer>> boxedNumbers;
+    private List<IntResult> numbers;
+
+    @Setup
+    public void setup() {
+        results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(Outcome.mixed(i, rejectedPercent).result());
+        }
+        routedResults = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Result<String> result = results.get(i);
+            routedResults.add(result.isRejected()
+                ? Result.reject(ROUTED_EXCEPTIONS[(i * 7) % ROUTED_EXCEPTIONS.length])
+                : result);
+        }
+        boxedNumbers = new ArrayList<>(size);
+        numbers = new ArrayList<>(size);
+        for (Result<String> result : results) {
+            boxedNumbers.add(result.map(value -> value == null ? 0 : value.length()));
+            numbers.add(result.mapToInt(value -> value == null ? 0 : value.length()));
+        }
+    }
+
+    @Benchmark
+    public long valueStream() {
+        return Results.valueStream(results).count();
+    }
+
+    @Benchmark
+    public long valueStreamParallel() {
+        return Results.valueStream(results.parallelStream()).count();
+    }
+
+    @Benchmark
+    public long splitStream() {
+        SplitStream<String> split = Results.splitStream(results);
+        return split.getValueStream().count() + split.getExceptionStream().count();
+    }
+
+    @Benchmark
+    public long splitStreamParallel() {
+        SplitStream<String> split = Results.splitStream(results.parallelStream());
+        return split.getValueStream().count() + split.getExceptionStream().count();
+    }
+
+    @Benchmark
+    public long splitStreamUnorderedParallel() {
+        SplitStream<String> split = Results.splitStreamUnordered(results.parallelStream());
+        return split.getValueStream().count() + split.getExceptionStream().count();
+    }
+
+    @Benchmark
+    public long partition() {
+        SplitStream<String> split = Results.partition(results);
+        return split.getValueStream().count() + split.getExceptionStream().count();
+    }
+
+    @Benchmark
+    public long summarize() {
+        return Results.summarize(results.stream()).getRejected();
+    }
+
+    @Benchmark
+    public long groupingByException() {
+        ExceptionGroups<String> groups = routedResults.stream().collect(ROUTING);
+        return groups.getValues().size() + groups.getGroup(IOException.class).size()
+            + groups.getGroup(IllegalArgumentException.class).size()
+            + groups.getGroup(RuntimeException.class).size();
+    }
+
+    /**
+     * The multi-pass routing that {@link #groupingByException()} replaces: one pass for values and one filtered
+     * pass over the rejections per route.
+     */
+    @Benchmark
+    public long filterPerRoute() {
+        List<String> values = Results.valueStream(routedResults).collect(Collectors.toList());
+        List<Throwable> io = Results.exceptionStream(routedResults)
+            .filter(err -> err instanceof IOException)
+            .collect(Collectors.toList());
+        List<Throwable> invalid = Results.exceptionStream(routedResults)
+            .filter(err -> !(err instanceof IOException) && err instanceof IllegalArgumentException)
+            .collect(Collectors.toList());
+        List<Throwable> runtime = Results.exceptionStream(routedResults)
+            .filter(err -> !(err instanceof IOException) && !(err instanceof IllegalArgumentException)
+                && err instanceof RuntimeException)
+            .collect(Collectors.toList());
+        return values.size() + io.size() + invalid.size() + runtime.size();
+    }
+
+    @Benchmark
+    public long sumBoxedSplitStream() {
+        return Results.splitStream(boxedNumbers).getValueStream().mapToLong(i -> i == null ? 0 : i).sum();
+    }
+
+    @Benchmark
+    public long sumIntSplitStream() {
+        return Results.splitToIntStream(numbers).getValueStream().asLongStream().sum();
+    }
+}
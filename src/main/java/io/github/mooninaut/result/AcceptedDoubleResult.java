@@ -0,0 +1,165 @@
+package io.github.mooninaut.result;
+
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+
+/*
+ * AcceptedDoubleResult.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+final class AcceptedDoubleResult implements DoubleResult {
+    ////// Fields //////
+    private final double value;
+
+    ////// Constructors ///////
+    AcceptedDoubleResult(double value) {
+        this.value = value;
+    }
+
+    ////// Public methods ///////
+    @Override
+    public boolean isAccepted() {
+        return true;
+    }
+
+    @Override
+    public boolean isPresent() {
+        return true;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public boolean isRejected() {
+        return false;
+    }
+
+    @Override
+    public double get() {
+        return value;
+    }
+
+    @Override
+    public Throwable getException() {
+        throw new IllegalStateException("Cannot get exception from accepted DoubleResult");
+    }
+
+    @Override
+    public double orElse(double other) {
+        return value;
+    }
+
+    @Override
+    public double orElseThrow() {
+        return value;
+    }
+
+    @Override
+    public double orElseThrowRuntime() {
+        return value;
+    }
+
+    @Override
+    public void throwIfRejected() { }
+
+    @Override
+    public void throwRuntimeIfRejected() { }
+
+    @Override
+    public DoubleResult exMap(ExceptionalDoubleUnaryOperator mapper) {
+        try {
+            return new AcceptedDoubleResult(mapper.applyAsDouble(value));
+        } catch (Throwable ex) {
+            Exceptions.throwIfUnchecked(ex);
+            return DoubleResult.reject(ex);
+        }
+    }
+
+    @Override
+    public DoubleResult map(DoubleUnaryOperator mapper) {
+        return new AcceptedDoubleResult(mapper.applyAsDouble(value));
+    }
+
+    @Override
+    public <OUT> Result<OUT> exMapToObj(ExceptionalDoubleFunction<? extends OUT> mapper) {
+        OUT out;
+        try {
+            out = mapper.apply(value);
+        } catch (Throwable ex) {
+            Exceptions.throwIfUnchecked(ex);
+            Instrumentation.rejected(ResultInstrumentation.UNTAGGED, ex);
+            return ResultLayout.rejected(ex);
+        }
+        Instrumentation.accepted(ResultInstrumentation.UNTAGGED, out);
+        return Result.accept(out);
+    }
+
+    @Override
+    public <OUT> Result<OUT> mapToObj(DoubleFunction<? extends OUT> mapper) {
+        return Result.accept(mapper.apply(value));
+    }
+
+    @Override
+    public Result<Double> toResult() {
+        return Result.accept(value);
+    }
+
+    @Override
+    public OptionalDouble toOptional() {
+        return OptionalDouble.of(value);
+    }
+
+    @Override
+    public DoubleResult ifPresent(DoubleConsumer consumer) {
+        consumer.accept(value);
+        return this;
+    }
+
+    @Override
+    public DoubleResult ifRejected(Consumer<? super Throwable> rejector) {
+        return this;
+    }
+
+    ////// Object overrides //////
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AcceptedDoubleResult otherResult = (AcceptedDoubleResult) o;
+        return Double.compare(value, otherResult.value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleResult: accepted, " + value;
+    }
+}
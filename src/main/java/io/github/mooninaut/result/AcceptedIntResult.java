@@ -0,0 +1,182 @@
+package io.github.mooninaut.result;
+
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+/*
+ * AcceptedIntResult.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+final class AcceptedIntResult implements IntResult {
+    private static final int LOW = -128;
+    private static final int HIGH = 127;
+    private static final AcceptedIntResult[] SMALL = new AcceptedIntResult[HIGH - LOW + 1];
+
+    static {
+        for (int i = LOW; i <= HIGH; i++) {
+            SMALL[i - LOW] = new AcceptedIntResult(i);
+        }
+    }
+
+    ////// Fields //////
+    private final int value;
+
+    ////// Constructors ///////
+    AcceptedIntResult(int value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns a shared instance for small values, like {@link Integer#valueOf}, otherwise a new one.
+     */
+    static IntResult valueOf(int value) {
+        return value >= LOW && value <= HIGH ? SMALL[value - LOW] : new AcceptedIntResult(value);
+    }
+
+    ////// Public methods ///////
+    @Override
+    public boolean isAccepted() {
+        return true;
+    }
+
+    @Override
+    public boolean isPresent() {
+        return true;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public boolean isRejected() {
+        return false;
+    }
+
+    @Override
+    public int get() {
+        return value;
+    }
+
+    @Override
+    public Throwable getException() {
+        throw new IllegalStateException("Cannot get exception from accepted IntResult");
+    }
+
+    @Override
+    public int orElse(int other) {
+        return value;
+    }
+
+    @Override
+    public int orElseThrow() {
+        return value;
+    }
+
+    @Override
+    public int orElseThrowRuntime() {
+        return value;
+    }
+
+    @Override
+    public void throwIfRejected() { }
+
+    @Override
+    public void throwRuntimeIfRejected() { }
+
+    @Override
+    public IntResult exMap(ExceptionalIntUnaryOperator mapper) {
+        try {
+            return valueOf(mapper.applyAsInt(value));
+        } catch (Throwable ex) {
+            Exceptions.throwIfUnchecked(ex);
+            return IntResult.reject(ex);
+        }
+    }
+
+    @Override
+    public IntResult map(IntUnaryOperator mapper) {
+        return valueOf(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public <OUT> Result<OUT> exMapToObj(ExceptionalIntFunction<? extends OUT> mapper) {
+        OUT out;
+        try {
+            out = mapper.apply(value);
+        } catch (Throwable ex) {
+            Exceptions.throwIfUnchecked(ex);
+            Instrumentation.rejected(ResultInstrumentation.UNTAGGED, ex);
+            return ResultLayout.rejected(ex);
+        }
+        Instrumentation.accepted(ResultInstrumentation.UNTAGGED, out);
+        return Result.accept(out);
+    }
+
+    @Override
+    public <OUT> Result<OUT> mapToObj(IntFunction<? extends OUT> mapper) {
+        return Result.accept(mapper.apply(value));
+    }
+
+    @Override
+    public Result<Integer> toResult() {
+        return Result.accept(value);
+    }
+
+    @Override
+    public OptionalInt toOptional() {
+        return OptionalInt.of(value);
+    }
+
+    @Override
+    public IntResult ifPresent(IntConsumer consumer) {
+        consumer.accept(value);
+        return this;
+    }
+
+    @Override
+    public IntResult ifRejected(Consumer<? super Throwable> rejector) {
+        return this;
+    }
+
+    ////// Object overrides //////
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AcceptedIntResult otherResult = (AcceptedIntResult) o;
+        return value == otherResult.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return "IntResult: accepted, " + value;
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.mooninaut.result;
+
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+/*
+ * AcceptedLongResult.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+final class AcceptedLongResult implements LongResult {
+    private static final int LOW = -128;
+    private static final int HIGH = 127;
+    private static final AcceptedLongResult[] SMALL = new AcceptedLongResult[HIGH - LOW + 1];
+
+    static {
+        for (int i = LOW; i <= HIGH; i++) {
+            SMALL[i - LOW] = new AcceptedLongResult(i);
+        }
+    }
+
+    ////// Fields //////
+    private final long value;
+
+    ////// Constructors ///////
+    AcceptedLongResult(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns a shared instance for small values, like {@link Long#valueOf}, otherwise a new one.
+     */
+    static LongResult valueOf(long value) {
+        return value >= LOW && value <= HIGH ? SMALL[(int) value - LOW] : new AcceptedLongResult(value);
+    }
+
+    ////// Public methods ///////
+    @Override
+    public boolean isAccepted() {
+        return true;
+    }
+
+    @Override
+    public boolean isPresent() {
+        return true;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public boolean isRejected() {
+        return false;
+    }
+
+    @Override
+    public long get() {
+        return value;
+    }
+
+    @Override
+    public Throwable getException() {
+        throw new IllegalStateException("Cannot get exception from accepted LongResult");
+    }
+
+    @Override
+    public long orElse(long other) {
+        return value;
+    }
+
+    @Override
+    public long orElseThrow() {
+        return value;
+    }
+
+    @Override
+    public long orElseThrowRuntime() {
+        return value;
+    }
+
+    @Override
+    public void throwIfRejected() { }
+
+    @Override
+    public void throwRuntimeIfRejected() { }
+
+    @Override
+    public LongResult exMap(ExceptionalLongUnaryOperator mapper) {
+        try {
+            return valueOf(mapper.applyAsLong(value));
+        } catch (Throwable ex) {
+            Exceptions.throwIfUnchecked(ex);
+            return LongResult.reject(ex);
+        }
+    }
+
+    @Override
+    public LongResult map(LongUnaryOperator mapper) {
+        return valueOf(mapper.applyAsLong(value));
+    }
+
+    @Override
+    public <OUT> Result<OUT> exMapToObj(ExceptionalLongFunction<? extends OUT> mapper) {
+        OUT out;
+        try {
+            out = mapper.apply(value);
+        } catch (Throwable ex) {
+            Exceptions.throwIfUnchecked(ex);
+            Instrumentation.rejected(ResultInstrumentation.UNTAGGED, ex);
+            return ResultLayout.rejected(ex);
+        }
+        Instrumentation.accepted(ResultInstrumentation.UNTAGGED, out);
+        return Result.accept(out);
+    }
+
+    @Override
+    public <OUT> Result<OUT> mapToObj(LongFunction<? extends OUT> mapper) {
+        return Result.accept(mapper.apply(value));
+    }
+
+    @Override
+    public Result<Long> toResult() {
+        return Result.accept(value);
+    }
+
+    @Override
+    public OptionalLong toOptional() {
+        return OptionalLong.of(value);
+    }
+
+    @Override
+    public LongResult ifPresent(LongConsumer consumer) {
+        consumer.accept(value);
+        return this;
+    }
+
+    @Override
+    public LongResult ifRejected(Consumer<? super Throwable> rejector) {
+        return this;
+    }
+
+    ////// Object overrides //////
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AcceptedLongResult otherResult = (AcceptedLongResult) o;
+        return value == otherResult.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return "LongResult: accepted, " + value;
+    }
+}
@@ -4,6 +4,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /*
  * AcceptedResult.java
@@ -113,6 +116,51 @@ final class AcceptedResult<VAL> implements Result<VAL> {
         return Result.accept(mapper.apply(get()));
     }
 
+    @Override
+    public IntResult exMapToInt(ExceptionalToIntFunction<? super VAL> mapper) {
+        try {
+            return AcceptedIntResult.valueOf(mapper.applyAsInt(value));
+        } catch (Throwable ex) {
+            Exceptions.throwIfUnchecked(ex);
+            return IntResult.reject(ex);
+        }
+    }
+
+    @Override
+    public IntResult mapToInt(ToIntFunction<? super VAL> mapper) {
+        return AcceptedIntResult.valueOf(mapper.applyAsInt(value));
+    }
+
+    @Override
+    public LongResult exMapToLong(ExceptionalToLongFunction<? super VAL> mapper) {
+        try {
+            return AcceptedLongResult.valueOf(mapper.applyAsLong(value));
+        } catch (Throwable ex) {
+            Exceptions.throwIfUnchecked(ex);
+            return LongResult.reject(ex);
+        }
+    }
+
+    @Override
+    public LongResult mapToLong(ToLongFunction<? super VAL> mapper) {
+        return AcceptedLongResult.valueOf(mapper.applyAsLong(value));
+    }
+
+    @Override
+    public DoubleResult exMapToDouble(ExceptionalToDoubleFunction<? super VAL> mapper) {
+        try {
+            return new AcceptedDoubleResult(mapper.applyAsDouble(value));
+        } catch (Throwable ex) {
+            Exceptions.throwIfUnchecked(ex);
+            return DoubleResult.reject(ex);
+        }
+    }
+
+    @Override
+    public DoubleResult mapToDouble(ToDoubleFunction<? super VAL> mapper) {
+        return new AcceptedDoubleResult(mapper.applyAsDouble(value));
+    }
+
     @Override
     public Optional<VAL> toOptional() throws NullPointerException {
         return Optional.of(get());
@@ -206,6 +254,9 @@ final class AcceptedResult<VAL> implements Result<VAL> {
         if (this == o) {
             return true;
         }
+        if (o instanceof LazyResult) {
+            return equals(LazyResult.unwrap(o));
+        }
         if (o == null || getClass() != o.getClass()) {
             return false;
         }
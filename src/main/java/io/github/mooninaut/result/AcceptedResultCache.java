@@ -0,0 +1,163 @@
+package io.github.mooninaut.result;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * AcceptedResultCache.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Shares accepted Results for common boxed values, so {@link Result#accept} need not allocate for them.
+ * Like {@link Integer#valueOf(int)}, Booleans, and Bytes, Shorts, Integers, Longs and Characters between -128 and
+ * 127 (0 and 127 for Characters) are cached, but only when the value is the canonical boxed instance, so
+ * {@code Result.accept(x).get() == x} still holds.
+ * <p>
+ * Caching of other immutable value types is opt-in, per class, with {@link #enable(Class, int)}. Such values are
+ * interned: an accepted Result may contain a previously seen value that is {@code equals}, but not identical, to
+ * the one passed to {@link Result#accept}. Only enable classes whose instances are immutable and interchangeable
+ * when equal. Enum constants are not cached: allocating a Result is cheaper than looking one up for them.
+ * <p>
+ * {@link Result#accept} only consults the cache for {@link Number}s, Booleans and Characters, and for other values
+ * only while some class is enabled, so until then accepting any other value costs one static field read.
+ */
+public final class AcceptedResultCache {
+    private static final int LOW = -128;
+    private static final int HIGH = 127;
+
+    private static final Result<Boolean> TRUE = ResultLayout.accepted(Boolean.TRUE);
+    private static final Result<Boolean> FALSE = ResultLayout.accepted(Boolean.FALSE);
+    private static final Result<?>[] BYTES = new Result<?>[HIGH - LOW + 1];
+    private static final Result<?>[] SHORTS = new Result<?>[HIGH - LOW + 1];
+    private static final Result<?>[] INTEGERS = new Result<?>[HIGH - LOW + 1];
+    private static final Result<?>[] LONGS = new Result<?>[HIGH - LOW + 1];
+    private static final Result<?>[] CHARACTERS = new Result<?>[HIGH + 1];
+
+    private static final Map<Class<?>, Interner> INTERNERS = new ConcurrentHashMap<>();
+    private static volatile boolean interning;
+
+    static {
+        for (int i = LOW; i <= HIGH; i++) {
+            BYTES[i - LOW] = ResultLayout.accepted((byte) i);
+            SHORTS[i - LOW] = ResultLayout.accepted((short) i);
+            INTEGERS[i - LOW] = ResultLayout.accepted(i);
+            LONGS[i - LOW] = ResultLayout.accepted((long) i);
+        }
+        for (int i = 0; i <= HIGH; i++) {
+            CHARACTERS[i] = ResultLayout.accepted((char) i);
+        }
+    }
+
+    private AcceptedResultCache() { }
+
+    /**
+     * Caches accepted Results for up to {@code maxEntries} distinct values of exactly {@code type}
+     * (not subclasses). Once full, further values are not cached, and {@link Result#accept} allocates as usual.
+     * Calling this again for the same class replaces its cache.
+     */
+    public static synchronized void enable(Class<?> type, int maxEntries) {
+        Objects.requireNonNull(type);
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        INTERNERS.put(type, new Interner(maxEntries));
+        interning = true;
+    }
+
+    /**
+     * Stops caching values of {@code type} and releases its cached Results.
+     */
+    public static synchronized void disable(Class<?> type) {
+        INTERNERS.remove(type);
+        interning = !INTERNERS.isEmpty();
+    }
+
+    /**
+     * Whether {@code val} is of a type that may be cached. A few type checks, cheap enough to run on every accept.
+     */
+    static boolean mayBeCached(Object val) {
+        return val instanceof Number || val instanceof Boolean || val instanceof Character;
+    }
+
+    /**
+     * Whether any class has been {@link #enable enabled}. A single volatile read; while false, values that are not
+     * {@link #mayBeCached} are never looked up.
+     */
+    static boolean isInterning() {
+        return interning;
+    }
+
+    /**
+     * Returns the interned accepted Result for {@code val} if its class is enabled and has room, or {@code null}.
+     * {@code val} must not be null.
+     */
+    @SuppressWarnings("unchecked")
+    static <VAL> Result<VAL> intern(VAL val) {
+        Interner interner = INTERNERS.get(val.getClass());
+        return interner == null ? null : (Result<VAL>) interner.intern(val);
+    }
+
+    /**
+     * Returns a cached accepted Result for {@code val}, or {@code null} if it has none. {@code val} must not be null.
+     */
+    @SuppressWarnings("unchecked")
+    static <VAL> Result<VAL> get(VAL val) {
+        Class<?> type = val.getClass();
+        Result<?> cached;
+        if (type == Integer.class) {
+            cached = small(INTEGERS, (Integer) val, LOW);
+        } else if (type == Boolean.class) {
+            cached = val == Boolean.TRUE ? TRUE : val == Boolean.FALSE ? FALSE : null;
+        } else if (type == Long.class) {
+            long l = (Long) val;
+            cached = l >= LOW && l <= HIGH ? LONGS[(int) l - LOW] : null;
+        } else if (type == Short.class) {
+            cached = small(SHORTS, (Short) val, LOW);
+        } else if (type == Byte.class) {
+            cached = BYTES[(Byte) val - LOW];
+        } else if (type == Character.class) {
+            cached = small(CHARACTERS, (Character) val, 0);
+        } else {
+            return null;
+        }
+        return cached != null && cached.get() == val ? (Result<VAL>) cached : null;
+    }
+
+    private static Result<?> small(Result<?>[] cache, int value, int low) {
+        return value >= low && value <= HIGH ? cache[value - low] : null;
+    }
+
+    /**
+     * Interns values of one class, up to a fixed number of entries.
+     */
+    private static final class Interner {
+        private final int maxEntries;
+        private final ConcurrentHashMap<Object, Result<?>> results = new ConcurrentHashMap<>();
+
+        Interner(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        Result<?> intern(Object val) {
+            Result<?> result = results.get(val);
+            if (result == null && results.size() < maxEntries) {
+                result = results.computeIfAbsent(val, ResultLayout::accepted);
+            }
+            return result;
+        }
+    }
+}
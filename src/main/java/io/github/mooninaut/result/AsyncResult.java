@@ -0,0 +1,323 @@
+package io.github.mooninaut.result;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/*
+ * AsyncResult.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * A Result that will be available in the future. Backed by a {@code CompletableFuture<Result<VAL>>} that
+ * never completes exceptionally: every failure, whether thrown by a mapping function, by the source
+ * {@link CompletionStage}, or caused by a timeout, becomes a rejected Result.
+ * No method blocks except {@link #join()}.
+ * <p>
+ * Unlike {@link Result#exMap}, the mapping methods here capture unchecked exceptions as well as checked ones,
+ * since there is no caller stack for them to propagate to.
+ * @param <VAL> The type of the eventual value.
+ */
+public final class AsyncResult<VAL> {
+    private final CompletableFuture<Result<VAL>> future;
+
+    private AsyncResult(CompletableFuture<Result<VAL>> future) {
+        this.future = future;
+    }
+
+    ////// Factories //////
+
+    /**
+     * An AsyncResult that is already complete with {@code result}.
+     */
+    public static <VAL> AsyncResult<VAL> completed(Result<VAL> result) {
+        return new AsyncResult<>(CompletableFuture.completedFuture(Objects.requireNonNull(result)));
+    }
+
+    /**
+     * Runs {@code es} on {@code executor} and captures its value or Throwable.
+     */
+    public static <VAL> AsyncResult<VAL> of(ExceptionalSupplier<VAL> es, Executor executor) {
+        Objects.requireNonNull(es);
+        return new AsyncResult<>(CompletableFuture.supplyAsync(() -> Result.of(es), executor));
+    }
+
+    /**
+     * Runs {@code es} on the common {@link ForkJoinPool} and captures its value or Throwable.
+     */
+    public static <VAL> AsyncResult<VAL> of(ExceptionalSupplier<VAL> es) {
+        return of(es, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Adapts a CompletionStage. A stage that completes exceptionally becomes a rejected Result containing the
+     * original Throwable, with any {@link CompletionException} or {@link ExecutionException} wrapper removed.
+     */
+    public static <VAL> AsyncResult<VAL> fromStage(CompletionStage<? extends VAL> stage) {
+        CompletableFuture<Result<VAL>> future = new CompletableFuture<>();
+        stage.whenComplete((value, err) -> future.complete(
+                err == null ? Result.accept(value) : Result.reject(unwrap(err))));
+        return new AsyncResult<>(future);
+    }
+
+    /**
+     * An AsyncResult that completes with a list of all the Results of {@code asyncResults}, in the same order,
+     * once every one of them has completed.
+     */
+    public static <VAL> AsyncResult<List<Result<VAL>>> allOf(Collection<AsyncResult<VAL>> asyncResults) {
+        List<CompletableFuture<Result<VAL>>> futures = new ArrayList<>(asyncResults.size());
+        for (AsyncResult<VAL> asyncResult : asyncResults) {
+            futures.add(asyncResult.future);
+        }
+        CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+        return new AsyncResult<>(all.thenApply(ignored -> {
+            List<Result<VAL>> results = new ArrayList<>(futures.size());
+            for (CompletableFuture<Result<VAL>> future : futures) {
+                results.add(future.join());
+            }
+            return Result.accept(results);
+        }));
+    }
+
+    /**
+     * An AsyncResult that completes with the Result, accepted or rejected, of whichever of {@code asyncResults}
+     * completes first. If {@code asyncResults} is empty, it never completes.
+     */
+    public static <VAL> AsyncResult<VAL> anyOf(Collection<AsyncResult<VAL>> asyncResults) {
+        CompletableFuture<Result<VAL>> first = new CompletableFuture<>();
+        for (AsyncResult<VAL> asyncResult : asyncResults) {
+            asyncResult.future.thenAccept(first::complete);
+        }
+        return new AsyncResult<>(first);
+    }
+
+    /**
+     * Starts an attempt by calling {@code attempt}, and, each time the attempt's AsyncResult is rejected, starts
+     * another for as long as {@code policy} allows. Delays between attempts are scheduled on a timer, so no thread
+     * waits during them. {@code attempt} is called on the timer thread and must not block: it should only start
+     * the work, e.g. with {@link #of(ExceptionalSupplier, Executor)}.
+     */
+    public static <VAL> AsyncResult<VAL> retry(Supplier<AsyncResult<VAL>> attempt, RetryPolicy policy) {
+        Objects.requireNonNull(attempt);
+        Objects.requireNonNull(policy);
+        CompletableFuture<Result<VAL>> future = new CompletableFuture<>();
+        retry(attempt, policy, System.nanoTime(), 1, future);
+        return new AsyncResult<>(future);
+    }
+
+    /**
+     * Runs {@code es} on {@code executor}, and runs it again, after a delay that holds no thread, for as long as
+     * {@code policy} allows.
+     * @see #retry(Supplier, RetryPolicy)
+     */
+    public static <VAL> AsyncResult<VAL> retrying(ExceptionalSupplier<VAL> es, RetryPolicy policy, Executor executor) {
+        Objects.requireNonNull(es);
+        Objects.requireNonNull(executor);
+        return retry(() -> of(es, executor), policy);
+    }
+
+    ////// Combinators //////
+
+    /**
+     * Applies {@code mapper} to the value once it is available, on the thread that completes this AsyncResult.
+     * @see Result#map(Function)
+     */
+    public <OUT> AsyncResult<OUT> map(Function<? super VAL, ? extends OUT> mapper) {
+        Objects.requireNonNull(mapper);
+        return new AsyncResult<>(future.thenApply(result -> capture(() -> result.map(mapper))));
+    }
+
+    /**
+     * Applies {@code mapper} to the value once it is available, on the thread that completes this AsyncResult.
+     * @see Result#exMap(ExceptionalFunction)
+     */
+    public <OUT> AsyncResult<OUT> exMap(ExceptionalFunction<? super VAL, ? extends OUT> mapper) {
+        Objects.requireNonNull(mapper);
+        return new AsyncResult<>(future.thenApply(result -> exMap(result, mapper)));
+    }
+
+    /**
+     * Applies {@code mapper} to the value once it is available, on {@code executor}.
+     * A rejected Result is passed through without being scheduled on {@code executor}.
+     */
+    public <OUT> AsyncResult<OUT> exMapAsync(ExceptionalFunction<? super VAL, ? extends OUT> mapper, Executor executor) {
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(executor);
+        return new AsyncResult<>(future.thenCompose(result -> {
+            if (result.isRejected()) {
+                return CompletableFuture.completedFuture(result.uncheckedCast());
+            }
+            return CompletableFuture.supplyAsync(() -> exMap(result, mapper), executor);
+        }));
+    }
+
+    /**
+     * Applies {@code mapper} to the value once it is available, on the common {@link ForkJoinPool}.
+     */
+    public <OUT> AsyncResult<OUT> exMapAsync(ExceptionalFunction<? super VAL, ? extends OUT> mapper) {
+        return exMapAsync(mapper, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Once the value is available, starts the next asynchronous step with it. A rejected Result is passed through
+     * without calling {@code next}, and a Throwable thrown by {@code next} rejects the returned AsyncResult.
+     */
+    public <OUT> AsyncResult<OUT> thenCompose(Function<? super VAL, AsyncResult<OUT>> next) {
+        Objects.requireNonNull(next);
+        return new AsyncResult<>(future.thenCompose(result -> {
+            if (result.isRejected()) {
+                return CompletableFuture.completedFuture(result.uncheckedCast());
+            }
+            try {
+                return next.apply(result.get()).future;
+            } catch (Throwable err) {
+                return CompletableFuture.completedFuture(Result.reject(err));
+            }
+        }));
+    }
+
+    /**
+     * An AsyncResult that completes like this one, or, if this one has not completed within {@code timeout},
+     * is rejected with a {@link TimeoutException}. The underlying work is not cancelled.
+     */
+    public AsyncResult<VAL> withTimeout(long timeout, TimeUnit unit) {
+        if (future.isDone()) {
+            return this;
+        }
+        CompletableFuture<Result<VAL>> timed = new CompletableFuture<>();
+        ScheduledFuture<?> timer = Scheduler.schedule(
+                () -> timed.complete(Result.reject(new TimeoutException("Timed out after " + timeout + " " + unit))),
+                timeout, unit);
+        future.thenAccept(result -> {
+            timer.cancel(false);
+            timed.complete(result);
+        });
+        return new AsyncResult<>(timed);
+    }
+
+    ////// Accessors //////
+
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * Waits for and returns the Result. Never throws, except on interruption, in which case the interrupt status
+     * is preserved and a rejected Result containing the {@link InterruptedException} is returned.
+     */
+    public Result<VAL> join() {
+        try {
+            return future.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return Result.reject(ie);
+        } catch (ExecutionException ee) {
+            // Unreachable: the future is never completed exceptionally.
+            return Result.reject(unwrap(ee));
+        }
+    }
+
+    /**
+     * The underlying future. It never completes exceptionally.
+     * Completing or cancelling the returned future does not affect this AsyncResult.
+     */
+    public CompletableFuture<Result<VAL>> toCompletableFuture() {
+        return future.thenApply(Function.identity());
+    }
+
+    /**
+     * Converts back to a plain CompletionStage, which completes with the value, or exceptionally with the
+     * rejected Result's Throwable itself, not wrapped in a {@link CompletionException}.
+     */
+    public CompletionStage<VAL> toStage() {
+        CompletableFuture<VAL> stage = new CompletableFuture<>();
+        future.thenAccept(result -> {
+            if (result.isRejected()) {
+                stage.completeExceptionally(result.getException());
+            } else {
+                stage.complete(result.get());
+            }
+        });
+        return stage;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncResult: " + (future.isDone() ? future.join() : "pending");
+    }
+
+    ////// Helpers //////
+
+    private static <IN, OUT> Result<OUT> exMap(Result<IN> result, ExceptionalFunction<? super IN, ? extends OUT> mapper) {
+        if (result.isRejected()) {
+            return result.uncheckedCast();
+        }
+        return Result.of(() -> mapper.apply(result.get()));
+    }
+
+    private static <VAL> void retry(Supplier<AsyncResult<VAL>> attempt, RetryPolicy policy, long startNanos,
+                                    int attempts, CompletableFuture<Result<VAL>> target) {
+        CompletableFuture<Result<VAL>> current;
+        try {
+            current = attempt.get().future;
+        } catch (Throwable err) {
+            current = CompletableFuture.completedFuture(Result.reject(err));
+        }
+        current.thenAccept(result -> {
+            if (result.isRejected()) {
+                long delay = policy.nextDelayNanos(result.getException(), attempts, startNanos);
+                if (delay >= 0) {
+                    Scheduler.schedule(() -> retry(attempt, policy, startNanos, attempts + 1, target),
+                            delay, TimeUnit.NANOSECONDS);
+                    return;
+                }
+            }
+            target.complete(result);
+        });
+    }
+
+    private static <OUT> Result<OUT> capture(ExceptionalSupplier<Result<OUT>> supplier) {
+        try {
+            return supplier.get();
+        } catch (Throwable err) {
+            return Result.reject(err);
+        }
+    }
+
+    /**
+     * Removes the wrapper exceptions that CompletableFuture adds, so a Throwable is never wrapped twice.
+     */
+    static Throwable unwrap(Throwable err) {
+        Throwable current = err;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
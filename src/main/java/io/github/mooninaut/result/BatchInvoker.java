@@ -0,0 +1,181 @@
+package io.github.mooninaut.result;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/*
+ * BatchInvoker.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Runs a batch of ExceptionalSuppliers concurrently and collects every outcome as a Result.
+ * On Java 21 and later each task gets its own virtual thread; on older JVMs a bounded pool of
+ * daemon platform threads is created for the batch.
+ */
+final class BatchInvoker {
+    private static final MethodHandle NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutorFactory();
+
+    private BatchInvoker() { }
+
+    private static MethodHandle findVirtualThreadExecutorFactory() {
+        try {
+            return MethodHandles.publicLookup().findStatic(
+                    Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    static boolean hasVirtualThreads() {
+        return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    private static final class Outcome<T> {
+        final int index;
+        final Result<T> result;
+
+        Outcome(int index, Result<T> result) {
+            this.index = index;
+            this.result = result;
+        }
+    }
+
+    /**
+     * @param inputOrder if true, Results are returned in the same order as {@code tasks},
+     *                   otherwise in the order the tasks completed.
+     */
+    static <T> List<Result<T>> invokeAll(
+            Collection<? extends ExceptionalSupplier<? extends T>> tasks,
+            InvokeOptions options,
+            boolean inputOrder) {
+        List<ExceptionalSupplier<? extends T>> taskList = new ArrayList<>(tasks);
+        int size = taskList.size();
+        if (size == 0) {
+            return new ArrayList<>();
+        }
+        long deadlineNanos = options.getDeadline() == null ? 0 : System.nanoTime() + options.getDeadline().toNanos();
+
+        ExecutorService executor = options.getExecutor();
+        boolean ownExecutor = executor == null;
+        if (ownExecutor) {
+            executor = newExecutor(Math.min(size, Math.min(options.getConcurrency(), options.getPlatformThreads())));
+        }
+
+        @SuppressWarnings("unchecked")
+        Result<T>[] results = (Result<T>[]) new Result<?>[size];
+        List<Result<T>> completionOrder = inputOrder ? null : new ArrayList<>(size);
+        List<Future<Outcome<T>>> futures = new ArrayList<>(size);
+        ExecutorCompletionService<Outcome<T>> completionService = new ExecutorCompletionService<>(executor);
+        Throwable stopReason = null;
+
+        try {
+            int inFlightLimit = Math.min(size, options.getConcurrency());
+            while (futures.size() < inFlightLimit) {
+                futures.add(submit(completionService, taskList, futures.size()));
+            }
+            for (int completed = 0; completed < size; completed++) {
+                Future<Outcome<T>> future;
+                if (options.getDeadline() == null) {
+                    future = completionService.take();
+                } else {
+                    future = completionService.poll(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (future == null) {
+                        stopReason = new TimeoutException("Batch deadline of " + options.getDeadline() + " passed");
+                        break;
+                    }
+                }
+                Outcome<T> outcome = outcome(future);
+                results[outcome.index] = outcome.result;
+                if (completionOrder != null) {
+                    completionOrder.add(outcome.result);
+                }
+                if (futures.size() < size) {
+                    futures.add(submit(completionService, taskList, futures.size()));
+                }
+            }
+        } catch (InterruptedException ie) {
+            stopReason = ie;
+            Thread.currentThread().interrupt();
+        } finally {
+            if (stopReason != null) {
+                for (Future<Outcome<T>> future : futures) {
+                    future.cancel(true);
+                }
+            }
+            if (ownExecutor) {
+                executor.shutdownNow();
+            }
+        }
+
+        if (stopReason != null) {
+            for (int i = 0; i < size; i++) {
+                if (results[i] == null) {
+                    results[i] = Result.reject(stopReason);
+                    if (completionOrder != null) {
+                        completionOrder.add(results[i]);
+                    }
+                }
+            }
+        }
+        return inputOrder ? new ArrayList<>(Arrays.asList(results)) : completionOrder;
+    }
+
+    private static <T> Future<Outcome<T>> submit(
+            ExecutorCompletionService<Outcome<T>> completionService,
+            List<ExceptionalSupplier<? extends T>> tasks,
+            int index) {
+        ExceptionalSupplier<? extends T> task = tasks.get(index);
+        return completionService.submit(() -> new Outcome<>(index, Result.of(task::get)));
+    }
+
+    private static <T> Outcome<T> outcome(Future<Outcome<T>> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException | CancellationException e) {
+            // Unreachable: tasks capture every Throwable, and are only cancelled after collection stops.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ExecutorService newExecutor(int platformThreads) {
+        if (NEW_VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invokeExact();
+            } catch (Throwable err) {
+                Exceptions.throwIfUnchecked(err);
+                throw new IllegalStateException(err);
+            }
+        }
+        return Executors.newFixedThreadPool(platformThreads, runnable -> {
+            Thread thread = new Thread(runnable, "mooninaut-result-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,181 @@
+package io.github.mooninaut.result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/*
+ * BatchingSpliterator.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Lazily maps a Stream of Results in batches. Accepted inputs are gathered until {@code batchSize} of them have
+ * been pulled, the source is exhausted, or the batch's first input has waited {@code maxWaitNanos}; the batch
+ * function is then called once, and its outputs are emitted in place of the inputs. Rejected inputs keep their
+ * position and are passed through without being added to a batch.
+ * <p>
+ * Parallel streams split the source between batches, so every split batches independently and encounter order
+ * is preserved.
+ */
+final class BatchingSpliterator<IN, OUT> implements Spliterator<Result<OUT>> {
+    private final Spliterator<Result<IN>> source;
+    private final ExceptionalFunction<? super List<IN>, ? extends List<? extends Result<? extends OUT>>> batchFunc;
+    private final int batchSize;
+    private final long maxWaitNanos;
+
+    ////// Fields for the batch being gathered //////
+    private final List<Result<IN>> window = new ArrayList<>();
+    private final List<IN> inputs = new ArrayList<>();
+    private final Consumer<Result<IN>> gather = window::add;
+
+    ////// Fields for the batch being emitted //////
+    private Result<OUT>[] outputs;
+    private int next;
+
+    private BatchingSpliterator(
+            Spliterator<Result<IN>> source,
+            ExceptionalFunction<? super List<IN>, ? extends List<? extends Result<? extends OUT>>> batchFunc,
+            int batchSize,
+            long maxWaitNanos) {
+        this.source = source;
+        this.batchFunc = batchFunc;
+        this.batchSize = batchSize;
+        this.maxWaitNanos = maxWaitNanos;
+    }
+
+    static <IN, OUT> Stream<Result<OUT>> exMapBatched(
+            Stream<Result<IN>> stream,
+            ExceptionalFunction<? super List<IN>, ? extends List<? extends Result<? extends OUT>>> batchFunc,
+            int batchSize,
+            long maxWaitNanos) {
+        Objects.requireNonNull(batchFunc);
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        if (maxWaitNanos < 0) {
+            throw new IllegalArgumentException("maxWait must not be negative: " + maxWaitNanos + "ns");
+        }
+        BatchingSpliterator<IN, OUT> spliterator =
+                new BatchingSpliterator<>(stream.spliterator(), batchFunc, batchSize, maxWaitNanos);
+        return StreamSupport.stream(spliterator, stream.isParallel()).onClose(stream::close);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Result<OUT>> action) {
+        if (outputs == null || next == outputs.length) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        Result<OUT> output = outputs[next];
+        outputs[next++] = null;
+        action.accept(output);
+        return true;
+    }
+
+    /**
+     * Pulls the next batch from the source and maps it into {@link #outputs}.
+     * A rejected input pulled before any accepted one is emitted on its own, so runs of rejections are not held
+     * back waiting for a batch to fill.
+     * @return false if the source is exhausted
+     */
+    private boolean fill() {
+        long start = 0;
+        while (inputs.size() < batchSize && source.tryAdvance(gather)) {
+            Result<IN> last = window.get(window.size() - 1);
+            if (last.isAccepted()) {
+                if (inputs.isEmpty()) {
+                    start = System.nanoTime();
+                }
+                inputs.add(last.get());
+                if (maxWaitNanos > 0 && System.nanoTime() - start >= maxWaitNanos) {
+                    break;
+                }
+            } else if (inputs.isEmpty()) {
+                break;
+            }
+        }
+        if (window.isEmpty()) {
+            return false;
+        }
+        outputs = map();
+        next = 0;
+        window.clear();
+        inputs.clear();
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Result<OUT>[] map() {
+        Result<OUT>[] mapped = (Result<OUT>[]) new Result<?>[window.size()];
+        List<? extends Result<? extends OUT>> batchOutputs = null;
+        Throwable batchFailure = null;
+        if (!inputs.isEmpty()) {
+            try {
+                batchOutputs = batchFunc.apply(new ArrayList<>(inputs));
+            } catch (Throwable ex) {
+                Exceptions.throwIfUnchecked(ex);
+                batchFailure = ex;
+            }
+            if (batchFailure == null && batchOutputs.size() != inputs.size()) {
+                throw new IllegalStateException("Batch function returned " + batchOutputs.size()
+                        + " outputs for " + inputs.size() + " inputs");
+            }
+        }
+        int accepted = 0;
+        for (int i = 0; i < mapped.length; i++) {
+            Result<IN> in = window.get(i);
+            if (!in.isAccepted()) {
+                mapped[i] = in.uncheckedCast();
+            } else if (batchFailure != null) {
+                Instrumentation.rejected(ResultInstrumentation.UNTAGGED, batchFailure);
+                mapped[i] = ResultLayout.rejected(batchFailure);
+            } else {
+                mapped[i] = Objects.requireNonNull(batchOutputs.get(accepted++), "Batch function returned a null Result")
+                        .uncheckedCast();
+            }
+        }
+        return mapped;
+    }
+
+    /**
+     * Splits the source, but only between batches: a prefix split off while outputs are pending would overtake them.
+     */
+    @Override
+    public Spliterator<Result<OUT>> trySplit() {
+        if (outputs != null && next < outputs.length) {
+            return null;
+        }
+        Spliterator<Result<IN>> prefix = source.trySplit();
+        return prefix == null ? null : new BatchingSpliterator<>(prefix, batchFunc, batchSize, maxWaitNanos);
+    }
+
+    @Override
+    public long estimateSize() {
+        long pending = outputs == null ? 0 : outputs.length - next;
+        long remaining = source.estimateSize();
+        return remaining == Long.MAX_VALUE ? remaining : remaining + pending;
+    }
+
+    @Override
+    public int characteristics() {
+        return (source.characteristics() & (ORDERED | SIZED | SUBSIZED)) | NONNULL;
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.mooninaut.result;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+ * BulkMapper.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Applies an ExceptionalFunction to every element of an array of Results on a ForkJoinPool, writing each output
+ * into the same index of a pre-sized array.
+ */
+final class BulkMapper {
+    /**
+     * Shared by every element skipped by fail-fast, so skipping allocates nothing.
+     */
+    static final Result<?> SKIPPED = ResultLayout.rejected(SkippedException.INSTANCE);
+
+    private static final int TASKS_PER_THREAD = 4;
+
+    private BulkMapper() { }
+
+    static <IN, OUT> Result<OUT>[] exMapAll(
+            Result<IN>[] inputs,
+            ExceptionalFunction<? super IN, ? extends OUT> mapper,
+            BulkOptions options) {
+        @SuppressWarnings("unchecked")
+        Result<OUT>[] outputs = (Result<OUT>[]) new Result<?>[inputs.length];
+        if (inputs.length == 0) {
+            return outputs;
+        }
+        ForkJoinPool pool = options.getPool() == null ? ForkJoinPool.commonPool() : options.getPool();
+        int threshold = options.getThreshold() > 0
+                ? options.getThreshold()
+                : Math.max(1, inputs.length / (pool.getParallelism() * TASKS_PER_THREAD));
+        MapTask<IN, OUT> task = new MapTask<>(
+                new Batch<>(inputs, outputs, mapper, threshold, options.isFailFast()), 0, inputs.length);
+        pool.invoke(task);
+        return outputs;
+    }
+
+    /**
+     * State shared by every task in one bulk operation.
+     */
+    private static final class Batch<IN, OUT> {
+        final Result<IN>[] inputs;
+        final Result<OUT>[] outputs;
+        final ExceptionalFunction<? super IN, ? extends OUT> mapper;
+        final int threshold;
+        final boolean failFast;
+        volatile boolean failed;
+
+        Batch(Result<IN>[] inputs,
+              Result<OUT>[] outputs,
+              ExceptionalFunction<? super IN, ? extends OUT> mapper,
+              int threshold,
+              boolean failFast) {
+            this.inputs = inputs;
+            this.outputs = outputs;
+            this.mapper = mapper;
+            this.threshold = threshold;
+            this.failFast = failFast;
+        }
+    }
+
+    private static final class MapTask<IN, OUT> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Batch<IN, OUT> batch;
+        private final int from;
+        private final int to;
+
+        MapTask(Batch<IN, OUT> batch, int from, int to) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (batch.failed) {
+                skip(from);
+                return;
+            }
+            if (to - from <= batch.threshold) {
+                map();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new MapTask<>(batch, from, middle), new MapTask<>(batch, middle, to));
+        }
+
+        private void map() {
+            Result<IN>[] inputs = batch.inputs;
+            Result<OUT>[] outputs = batch.outputs;
+            for (int i = from; i < to; i++) {
+                Result<OUT> output = inputs[i].exMap(batch.mapper);
+                outputs[i] = output;
+                if (batch.failFast && output.isRejected()) {
+                    batch.failed = true;
+                    skip(i + 1);
+                    return;
+                }
+            }
+        }
+
+        private void skip(int start) {
+            Result<OUT> skipped = SKIPPED.uncheckedCast();
+            for (int i = start; i < to; i++) {
+                batch.outputs[i] = skipped;
+            }
+        }
+    }
+}
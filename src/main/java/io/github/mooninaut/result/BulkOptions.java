@@ -0,0 +1,108 @@
+package io.github.mooninaut.result;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/*
+ * BulkOptions.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Options for bulk operations such as {@link Results#exMapAll(java.util.List, ExceptionalFunction, BulkOptions)}.
+ * Immutable; create with {@link #builder()}, or use {@link #defaults()}.
+ */
+public final class BulkOptions {
+    private static final BulkOptions DEFAULTS = builder().build();
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final boolean failFast;
+
+    private BulkOptions(Builder builder) {
+        this.pool = builder.pool;
+        this.threshold = builder.threshold;
+        this.failFast = builder.failFast;
+    }
+
+    /**
+     * The common ForkJoinPool, an automatic split threshold, and no fail-fast.
+     */
+    public static BulkOptions defaults() {
+        return DEFAULTS;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The ForkJoinPool to run on, or {@code null} for the common pool.
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * The largest number of elements one task processes without splitting, or 0 to choose automatically.
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Whether to stop processing further elements after the first rejected Result.
+     */
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    public static class Builder {
+        private ForkJoinPool pool;
+        private int threshold;
+        private boolean failFast;
+
+        public Builder pool(ForkJoinPool pool) {
+            this.pool = Objects.requireNonNull(pool);
+            return this;
+        }
+
+        /**
+         * Sets the largest number of elements one task processes without splitting further.
+         * Smaller values balance load better, larger values reduce scheduling overhead.
+         * By default a threshold giving about four tasks per worker thread is chosen.
+         */
+        public Builder threshold(int threshold) {
+            if (threshold < 1) {
+                throw new IllegalArgumentException("threshold must be positive: " + threshold);
+            }
+            this.threshold = threshold;
+            return this;
+        }
+
+        /**
+         * If {@code true}, once any element's Result is rejected, elements not yet processed are skipped, and
+         * rejected with a {@link SkippedException}.
+         */
+        public Builder failFast(boolean failFast) {
+            this.failFast = failFast;
+            return this;
+        }
+
+        public BulkOptions build() {
+            return new BulkOptions(this);
+        }
+    }
+}
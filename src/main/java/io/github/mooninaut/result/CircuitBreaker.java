@@ -0,0 +1,404 @@
+package io.github.mooninaut.result;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/*
+ * CircuitBreaker.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Stops calling a failing downstream for a while, so that callers fail fast instead of each waiting for it to
+ * time out.
+ * <ul>
+ * <li>{@link State#CLOSED CLOSED}: calls go through. Outcomes are counted in a sliding time window; once the window
+ * holds at least {@code minimumCalls} outcomes and the failure rate reaches {@code failureRateThreshold}, the
+ * breaker opens.</li>
+ * <li>{@link State#OPEN OPEN}: calls are not made. Each returns the same preallocated Result, rejected with a
+ * {@link CircuitBreakerOpenException}. After {@code openDuration}, the next call moves the breaker to half-open.</li>
+ * <li>{@link State#HALF_OPEN HALF_OPEN}: up to {@code halfOpenProbes} calls go through as probes, and the rest are
+ * rejected as if open. If every probe succeeds the breaker closes with an empty window; if any fails it reopens.</li>
+ * </ul>
+ * Apply a breaker with {@link ExceptionalSupplierWrapper#withCircuitBreaker} or
+ * {@link ExceptionalFunctionWrapper#withCircuitBreaker}. One breaker is normally shared by every call to the same
+ * downstream. All methods are thread-safe and lock-free.
+ */
+public final class CircuitBreaker {
+    private static final int EPOCH_BITS = 20;
+    private static final int COUNT_BITS = 22;
+    private static final long EPOCH_MASK = (1L << EPOCH_BITS) - 1;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Notified after every state change, on the thread whose call caused it. Must be fast and must not throw.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onStateChange(CircuitBreaker breaker, State from, State to);
+    }
+
+    ////// Fields //////
+    private final String name;
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long bucketNanos;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final Predicate<? super Throwable> recordFailure;
+    private final List<Listener> listeners;
+    private final LongSupplier clock;
+    private final CircuitBreakerOpenException openException;
+    private final Result<?> openResult;
+    /**
+     * One slot per bucket of the sliding window. Each packs the bucket's epoch (its start time divided by the bucket
+     * length, truncated to {@value #EPOCH_BITS} bits) with saturating counts of successes and failures, so a
+     * bucket that has aged out is recognised and restarted by the same compare-and-set that counts the outcome.
+     */
+    private final AtomicLongArray buckets;
+    private final AtomicReference<Phase> phase;
+
+    private CircuitBreaker(Builder builder) {
+        this.name = builder.name;
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.minimumCalls = builder.minimumCalls;
+        this.bucketNanos = Math.max(1, builder.window.toNanos() / builder.windowBuckets);
+        this.openNanos = builder.openDuration.toNanos();
+        this.halfOpenProbes = builder.halfOpenProbes;
+        this.recordFailure = builder.recordFailure;
+        this.listeners = Collections.unmodifiableList(new ArrayList<>(builder.listeners));
+        this.clock = builder.clock;
+        this.openException = new CircuitBreakerOpenException(name);
+        this.openResult = ResultLayout.rejected(openException);
+        this.buckets = new AtomicLongArray(builder.windowBuckets);
+        this.phase = new AtomicReference<>(new Phase(State.CLOSED, 0));
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    ////// Public methods //////
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The current state. An open breaker whose {@code openDuration} has passed still reports OPEN until the next call.
+     */
+    public State getState() {
+        return phase.get().state;
+    }
+
+    /**
+     * The fraction of outcomes in the current window that were failures, or 0 if there were none.
+     */
+    public double getFailureRate() {
+        long[] counts = windowCounts(epoch(clock.getAsLong()));
+        long total = counts[0] + counts[1];
+        return total == 0 ? 0 : (double) counts[1] / total;
+    }
+
+    /**
+     * Closes the breaker and empties its window.
+     */
+    public void reset() {
+        Phase current = phase.get();
+        if (current.state != State.CLOSED) {
+            transition(current, new Phase(State.CLOSED, 0));
+        }
+        clearWindow();
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker{name='" + name + "', state=" + getState() + '}';
+    }
+
+    ////// Package-private methods //////
+
+    /**
+     * Calls {@code wrapper} on {@code in} if the breaker permits, otherwise rejects with the preallocated
+     * {@link CircuitBreakerOpenException}, reporting the rejection as the wrapper would have.
+     * A rejected Result, or an unchecked exception rethrown by the wrapper, counts as a failure if
+     * {@code recordFailure} says so.
+     */
+    @SuppressWarnings("unchecked")
+    <IN, OUT> Result<OUT> execute(ExceptionalFunctionWrapper<? super IN, OUT> wrapper, IN in) {
+        Phase permit = acquire();
+        if (permit == null) {
+            JfrEvents.rejected(openException);
+            Instrumentation.rejected(ResultInstrumentation.UNTAGGED, openException);
+            return (Result<OUT>) openResult;
+        }
+        Result<OUT> result;
+        try {
+            result = wrapper.apply(in);
+        } catch (RuntimeException | Error err) {
+            record(permit, err);
+            throw err;
+        }
+        if (result.isRejected()) {
+            record(permit, result.getException());
+        } else {
+            onSuccess(permit);
+        }
+        return result;
+    }
+
+    ////// Private methods //////
+
+    private void record(Phase permit, Throwable err) {
+        if (recordFailure.test(err)) {
+            onFailure(permit);
+        } else {
+            onSuccess(permit);
+        }
+    }
+
+    /**
+     * Returns the phase the call runs in, or null if the call is not permitted.
+     */
+    private Phase acquire() {
+        Phase current = phase.get();
+        switch (current.state) {
+            case CLOSED:
+                return current;
+            case OPEN:
+                if (clock.getAsLong() - current.sinceNanos < openNanos) {
+                    return null;
+                }
+                Phase halfOpen = new Phase(State.HALF_OPEN, clock.getAsLong());
+                transition(current, halfOpen);
+                return acquire();
+            default:
+                return current.probesStarted.getAndIncrement() < halfOpenProbes ? current : null;
+        }
+    }
+
+    private void onSuccess(Phase permit) {
+        if (permit.state == State.CLOSED) {
+            record(false);
+        } else if (permit.probesSucceeded.incrementAndGet() == halfOpenProbes) {
+            clearWindow();
+            transition(permit, new Phase(State.CLOSED, 0));
+        }
+    }
+
+    private void onFailure(Phase permit) {
+        if (permit.state == State.HALF_OPEN) {
+            transition(permit, new Phase(State.OPEN, clock.getAsLong()));
+            return;
+        }
+        long[] counts = record(true);
+        long total = counts[0] + counts[1];
+        if (total >= minimumCalls && counts[1] >= failureRateThreshold * total) {
+            transition(permit, new Phase(State.OPEN, clock.getAsLong()));
+        }
+    }
+
+    private void transition(Phase from, Phase to) {
+        if (phase.compareAndSet(from, to)) {
+            for (Listener listener : listeners) {
+                listener.onStateChange(this, from.state, to.state);
+            }
+        }
+    }
+
+    private long epoch(long nanos) {
+        return Math.floorDiv(nanos, bucketNanos) & EPOCH_MASK;
+    }
+
+    /**
+     * Counts one outcome in the current bucket and returns the window's {successes, failures}.
+     */
+    private long[] record(boolean failure) {
+        long epoch = epoch(clock.getAsLong());
+        int index = (int) (epoch % buckets.length());
+        for (;;) {
+            long current = buckets.get(index);
+            long successes = 0;
+            long failures = 0;
+            if (current >>> (2 * COUNT_BITS) == epoch) {
+                successes = (current >>> COUNT_BITS) & COUNT_MASK;
+                failures = current & COUNT_MASK;
+            }
+            if (failure) {
+                failures = Math.min(failures + 1, COUNT_MASK);
+            } else {
+                successes = Math.min(successes + 1, COUNT_MASK);
+            }
+            if (buckets.compareAndSet(index, current, (epoch << (2 * COUNT_BITS)) | (successes << COUNT_BITS) | failures)) {
+                break;
+            }
+        }
+        return failure ? windowCounts(epoch) : null;
+    }
+
+    private long[] windowCounts(long epoch) {
+        long successes = 0;
+        long failures = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            long bucket = buckets.get(i);
+            long age = (epoch - (bucket >>> (2 * COUNT_BITS))) & EPOCH_MASK;
+            if (bucket != 0 && age < buckets.length()) {
+                successes += (bucket >>> COUNT_BITS) & COUNT_MASK;
+                failures += bucket & COUNT_MASK;
+            }
+        }
+        return new long[] {successes, failures};
+    }
+
+    private void clearWindow() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, 0);
+        }
+    }
+
+    /**
+     * One period in a single state. A new Phase is created on every transition, so a compare-and-set on the phase
+     * reference succeeds only for the first caller to act on a given period, and the half-open probe counters
+     * start from zero each time.
+     */
+    private static final class Phase {
+        final State state;
+        final long sinceNanos;
+        final AtomicInteger probesStarted = new AtomicInteger();
+        final AtomicInteger probesSucceeded = new AtomicInteger();
+
+        Phase(State state, long sinceNanos) {
+            this.state = state;
+            this.sinceNanos = sinceNanos;
+        }
+    }
+
+    public static class Builder {
+        private final String name;
+        private double failureRateThreshold = 0.5;
+        private int minimumCalls = 20;
+        private Duration window = Duration.ofSeconds(10);
+        private int windowBuckets = 10;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenProbes = 3;
+        private Predicate<? super Throwable> recordFailure = err -> true;
+        private final List<Listener> listeners = new ArrayList<>();
+        private LongSupplier clock = System::nanoTime;
+
+        private Builder(String name) {
+            this.name = Objects.requireNonNull(name);
+        }
+
+        /**
+         * Opens the breaker when at least this fraction of the calls in the window failed. Defaults to 0.5.
+         */
+        public Builder failureRateThreshold(double failureRateThreshold) {
+            if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+                throw new IllegalArgumentException(
+                        "failureRateThreshold must be greater than 0 and at most 1: " + failureRateThreshold);
+            }
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Never opens the breaker until the window holds at least this many outcomes. Defaults to 20.
+         */
+        public Builder minimumCalls(int minimumCalls) {
+            if (minimumCalls < 1) {
+                throw new IllegalArgumentException("minimumCalls must be positive: " + minimumCalls);
+            }
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Counts outcomes over the last {@code window}, in {@code buckets} slices that expire one at a time.
+         * Defaults to 10 seconds in 10 buckets.
+         */
+        public Builder slidingWindow(Duration window, int buckets) {
+            if (window.isNegative() || window.isZero()) {
+                throw new IllegalArgumentException("window must be positive: " + window);
+            }
+            if (buckets < 1 || buckets > 1024) {
+                throw new IllegalArgumentException("buckets must be between 1 and 1024: " + buckets);
+            }
+            this.window = window;
+            this.windowBuckets = buckets;
+            return this;
+        }
+
+        /**
+         * How long the breaker stays open before letting probes through. Defaults to 30 seconds.
+         */
+        public Builder openDuration(Duration openDuration) {
+            if (openDuration.isNegative()) {
+                throw new IllegalArgumentException("openDuration must not be negative: " + openDuration);
+            }
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        /**
+         * How many calls are let through while half-open; all must succeed to close the breaker. Defaults to 3.
+         */
+        public Builder halfOpenProbes(int halfOpenProbes) {
+            if (halfOpenProbes < 1) {
+                throw new IllegalArgumentException("halfOpenProbes must be positive: " + halfOpenProbes);
+            }
+            this.halfOpenProbes = halfOpenProbes;
+            return this;
+        }
+
+        /**
+         * Counts only exceptions matching {@code recordFailure} as failures; others count as successes, e.g. for
+         * errors that are the caller's fault rather than the downstream's. By default every exception counts.
+         */
+        public Builder recordFailure(Predicate<? super Throwable> recordFailure) {
+            this.recordFailure = Objects.requireNonNull(recordFailure);
+            return this;
+        }
+
+        public Builder listener(Listener listener) {
+            listeners.add(Objects.requireNonNull(listener));
+            return this;
+        }
+
+        /**
+         * The source of the current time in nanoseconds, with the semantics of {@link System#nanoTime()}, which is
+         * the default. Lets tests advance time instead of sleeping through the window and open duration.
+         */
+        public Builder clock(LongSupplier nanoTime) {
+            this.clock = Objects.requireNonNull(nanoTime);
+            return this;
+        }
+
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.mooninaut.result;
+
+/*
+ * CircuitBreakerOpenException.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * The exception in the Result returned, without calling the wrapped function, by a {@link CircuitBreaker} that is
+ * open. Each breaker preallocates a single instance, and returns the same rejected Result every time.
+ */
+public class CircuitBreakerOpenException extends StacklessException {
+    private static final long serialVersionUID = 1L;
+
+    private final String circuitBreakerName;
+
+    public CircuitBreakerOpenException(String circuitBreakerName) {
+        super("Circuit breaker '" + circuitBreakerName + "' is open");
+        this.circuitBreakerName = circuitBreakerName;
+    }
+
+    public String getCircuitBreakerName() {
+        return circuitBreakerName;
+    }
+}
@@ -0,0 +1,170 @@
+package io.github.mooninaut.result;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/*
+ * ConcurrentSplitCollector.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * A {@link Collector} of Results into a {@link SplitStream} that ignores encounter order, so that a parallel stream
+ * can feed a single shared container from every thread at once instead of building and merging one per split.
+ * The container gives each thread its own slab of {@link ChunkedBuffer}s, found through a small array indexed by
+ * thread id or, on collision, a ThreadLocal, so accumulating takes no lock and no atomic operation. The finisher
+ * links the slabs' buffers together in constant time per thread.
+ * @see Results#concurrentSplitCollector()
+ */
+final class ConcurrentSplitCollector<VAL>
+        implements Collector<Result<VAL>, ConcurrentSplitCollector.Slabs<VAL>, SplitStream<VAL>> {
+
+    private static final int STRIPES = 64;
+    private static final Set<Characteristics> CHARACTERISTICS =
+            Collections.unmodifiableSet(EnumSet.of(Characteristics.CONCURRENT, Characteristics.UNORDERED));
+
+    private enum Self {
+        INSTANCE;
+
+        private final ConcurrentSplitCollector<?> value = new ConcurrentSplitCollector<>();
+
+        @SuppressWarnings("unchecked")
+        public static <VAL> ConcurrentSplitCollector<VAL> getInstance() {
+            return (ConcurrentSplitCollector<VAL>) INSTANCE.value;
+        }
+    }
+
+    static <VAL> ConcurrentSplitCollector<VAL> collector() {
+        return Self.getInstance();
+    }
+
+    private ConcurrentSplitCollector() { }
+
+    @Override
+    public Supplier<Slabs<VAL>> supplier() {
+        return Slabs::new;
+    }
+
+    @Override
+    public BiConsumer<Slabs<VAL>, Result<VAL>> accumulator() {
+        return Slabs::add;
+    }
+
+    /**
+     * Only used if the stream framework decides not to share one container, e.g. for an ordered parallel stream
+     * collected by a caller that did not ask for unordered.
+     */
+    @Override
+    public BinaryOperator<Slabs<VAL>> combiner() {
+        return Slabs::absorb;
+    }
+
+    @Override
+    public Function<Slabs<VAL>, SplitStream<VAL>> finisher() {
+        return Slabs::finish;
+    }
+
+    /**
+     * Concurrent and unordered. The finisher is not an identity function.
+     */
+    @Override
+    public Set<Characteristics> characteristics() {
+        return CHARACTERISTICS;
+    }
+
+    /**
+     * Every thread's slab for one collection.
+     */
+    static final class Slabs<VAL> {
+        private final ConcurrentLinkedQueue<Slab<VAL>> slabs = new ConcurrentLinkedQueue<>();
+        private final ThreadLocal<Slab<VAL>> local = ThreadLocal.withInitial(this::register);
+        /**
+         * A cache in front of {@code local}, indexed by thread id. Slots are written once, racily, by whichever
+         * thread first registers with that index; a slab is only used by the thread that owns it.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private final Slab<VAL>[] stripes = new Slab[STRIPES];
+
+        private Slab<VAL> register() {
+            Thread thread = Thread.currentThread();
+            Slab<VAL> slab = new Slab<>(thread);
+            slabs.add(slab);
+            int stripe = stripe(thread);
+            if (stripes[stripe] == null) {
+                stripes[stripe] = slab;
+            }
+            return slab;
+        }
+
+        private static int stripe(Thread thread) {
+            return (int) thread.getId() & (STRIPES - 1);
+        }
+
+        void add(Result<VAL> result) {
+            Thread thread = Thread.currentThread();
+            Slab<VAL> slab = stripes[stripe(thread)];
+            if (slab == null || slab.owner != thread) {
+                slab = local.get();
+            }
+            if (result.isAccepted()) {
+                slab.values.add(result.get());
+            } else {
+                slab.exceptions.add(result.getException());
+            }
+        }
+
+        Slabs<VAL> absorb(Slabs<VAL> other) {
+            slabs.addAll(other.slabs);
+            other.slabs.clear();
+            return this;
+        }
+
+        /**
+         * Called once all accumulation has finished. Detaches every slab's buffers, so that the slabs still
+         * referenced from worker threads' ThreadLocal maps keep no Results' contents alive.
+         */
+        SplitStream<VAL> finish() {
+            ChunkedBuffer<VAL> values = new ChunkedBuffer<>();
+            ChunkedBuffer<Throwable> exceptions = new ChunkedBuffer<>();
+            for (Slab<VAL> slab : slabs) {
+                values.append(slab.values);
+                exceptions.append(slab.exceptions);
+            }
+            slabs.clear();
+            local.remove();
+            return new SplitStream<>(values, exceptions);
+        }
+    }
+
+    /**
+     * One thread's buffers. Written only by that thread.
+     */
+    private static final class Slab<VAL> {
+        final Thread owner;
+        final ChunkedBuffer<VAL> values = new ChunkedBuffer<>();
+        final ChunkedBuffer<Throwable> exceptions = new ChunkedBuffer<>();
+
+        Slab(Thread owner) {
+            this.owner = owner;
+        }
+    }
+}
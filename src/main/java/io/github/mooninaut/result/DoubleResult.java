@@ -0,0 +1,210 @@
+package io.github.mooninaut.result;
+
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+
+/*
+ * DoubleResult.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * An immutable Result type specialized for {@code double}, which contains, if accepted, a {@code double} value or nothing,
+ * or if rejected, a Throwable. Unlike {@code Result<Double>}, an accepted DoubleResult does not box its value.
+ * An empty DoubleResult is accepted, but has no value, and is the counterpart of an empty {@link Result}.
+ */
+public interface DoubleResult {
+
+    /**
+     * Returns an empty DoubleResult. May or may not be a singleton.
+     */
+    static DoubleResult empty() {
+        return EmptyDoubleResult.getInstance();
+    }
+
+    /**
+     * Creates and returns an accepted DoubleResult containing {@code val}.
+     */
+    static DoubleResult accept(double val) {
+        return new AcceptedDoubleResult(val);
+    }
+
+    /**
+     * Creates and returns a rejected DoubleResult containing the provided Throwable, {@code err}.
+     */
+    static DoubleResult reject(Throwable err) {
+        return new RejectedDoubleResult(Result.reject(err));
+    }
+
+    /**
+     * Creates and returns a rejected DoubleResult containing a {@link StacklessException} with the provided message.
+     * @see Result#rejectStackless(String)
+     */
+    static DoubleResult rejectStackless(String message) {
+        return new RejectedDoubleResult(Result.rejectStackless(message));
+    }
+
+    /**
+     * Creates and returns a rejected DoubleResult whose Throwable is created by {@code errSupplier} only when first needed.
+     * @see Result#rejectLazily(Supplier)
+     */
+    static DoubleResult rejectLazily(Supplier<? extends Throwable> errSupplier) {
+        return new RejectedDoubleResult(Result.rejectLazily(errSupplier));
+    }
+
+    /**
+     * Captures the value returned by, or the Throwable thrown by, {@code es} in a DoubleResult.
+     */
+    static DoubleResult of(ExceptionalDoubleSupplier es) {
+        try {
+            return accept(es.getAsDouble());
+        } catch (Throwable err) {
+            return reject(err);
+        }
+    }
+
+    /**
+     * Converts a {@code Result<Double>} to a DoubleResult, unboxing its value. An empty Result becomes an empty DoubleResult.
+     * A rejected Result keeps its Throwable, which is not created early if the Result was rejected lazily.
+     */
+    static DoubleResult fromResult(Result<? extends Double> result) {
+        if (result.isRejected()) {
+            return new RejectedDoubleResult(result);
+        }
+        if (result.isEmpty()) {
+            return empty();
+        }
+        return accept(result.get());
+    }
+
+    ////// Public methods ///////
+
+    /**
+     * Is this DoubleResult accepted?
+     * @return true for an accepted value or an empty DoubleResult, false if rejected.
+     */
+    boolean isAccepted();
+
+    /**
+     * Is this DoubleResult accepted and does it contain a value?
+     * @return true for an accepted value, false if empty or rejected.
+     */
+    boolean isPresent();
+
+    /**
+     * Is this DoubleResult accepted and empty?
+     * @return true if this DoubleResult is accepted and has no value, false if it has a value or is rejected.
+     */
+    boolean isEmpty();
+
+    /**
+     * Is this DoubleResult rejected?
+     * @return true if this DoubleResult is rejected, false if accepted.
+     */
+    boolean isRejected();
+
+    /**
+     * Get this DoubleResult's value if present, or throws IllegalStateException if empty or rejected.
+     */
+    double get() throws IllegalStateException;
+
+    /**
+     * Get this DoubleResult's Throwable if rejected, or throws IllegalStateException.
+     */
+    Throwable getException() throws IllegalStateException;
+
+    /**
+     * Get this DoubleResult's value if present, or {@code other} if it is empty or rejected.
+     */
+    double orElse(double other);
+
+    /**
+     * Get this DoubleResult's value if present, throws the included Throwable if rejected,
+     * or throws IllegalStateException if empty.
+     */
+    double orElseThrow() throws Throwable;
+
+    /**
+     * Get this DoubleResult's value if present, throws the included Throwable wrapped in a {@link RuntimeException}
+     * if rejected, or throws IllegalStateException if empty.
+     */
+    double orElseThrowRuntime() throws RuntimeException;
+
+    /**
+     * Throws the included Throwable if it is rejected, otherwise does nothing.
+     */
+    void throwIfRejected() throws Throwable;
+
+    /**
+     * Throws the included Throwable wrapped in a {@link RuntimeException} if it is rejected, otherwise does nothing.
+     */
+    void throwRuntimeIfRejected() throws RuntimeException;
+
+    /**
+     * Calls {@code mapper} on this DoubleResult's value, capturing the result or any checked exception in a DoubleResult.
+     * Unchecked exceptions propagate, as with {@link Result#exMap}.
+     * @return If a value is present, the result of calling {@code mapper} on it, otherwise {@code this}.
+     */
+    DoubleResult exMap(ExceptionalDoubleUnaryOperator mapper);
+
+    /**
+     * Calls {@code mapper} on this DoubleResult's value.
+     * @return If a value is present, the result of calling {@code mapper} on it, otherwise {@code this}.
+     */
+    DoubleResult map(DoubleUnaryOperator mapper);
+
+    /**
+     * Calls {@code mapper} on this DoubleResult's value, capturing the result or any checked exception in a Result.
+     * Unchecked exceptions propagate, as with {@link Result#exMap}.
+     * @return If a value is present, the result of calling {@code mapper} on it, if empty, an empty Result,
+     * otherwise a Result rejected with this DoubleResult's Throwable.
+     */
+    <OUT> Result<OUT> exMapToObj(ExceptionalDoubleFunction<? extends OUT> mapper);
+
+    /**
+     * Calls {@code mapper} on this DoubleResult's value.
+     * @return If a value is present, the result of calling {@code mapper} on it, if empty, an empty Result,
+     * otherwise a Result rejected with this DoubleResult's Throwable.
+     */
+    <OUT> Result<OUT> mapToObj(DoubleFunction<? extends OUT> mapper);
+
+    /**
+     * Converts this DoubleResult to a {@code Result<Double>}, boxing its value if present.
+     */
+    Result<Double> toResult();
+
+    /**
+     * Converts this DoubleResult to an {@link OptionalDouble}.
+     * Does not distinguish between a rejected and an empty DoubleResult. In either case, returns an empty OptionalDouble.
+     */
+    OptionalDouble toOptional();
+
+    /**
+     * If a value is present, feed it to the supplied {@link DoubleConsumer}, otherwise, do nothing.
+     * Chainable.
+     */
+    DoubleResult ifPresent(DoubleConsumer consumer);
+
+    /**
+     * If this DoubleResult is rejected, feed the included {@link Throwable} to the supplied {@link Consumer},
+     * otherwise, do nothing.
+     * Chainable.
+     */
+    DoubleResult ifRejected(Consumer<? super Throwable> rejector);
+}
@@ -0,0 +1,127 @@
+package io.github.mooninaut.result;
+
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+
+/*
+ * DoubleSplitStream.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * The {@code double} counterpart of {@link SplitStream}: a {@link DoubleStream} of present values and a Stream of
+ * Throwables, built from {@link DoubleResult}s without boxing any value.
+ */
+public class DoubleSplitStream {
+    private final DoubleStream valueStream;
+    private final Stream<Throwable> exceptionStream;
+
+    DoubleSplitStream(DoubleChunkedBuffer valueBuffer, ChunkedBuffer<Throwable> throwableBuffer) {
+        valueStream = valueBuffer.stream();
+        exceptionStream = throwableBuffer.stream();
+    }
+
+    DoubleSplitStream(DoubleStream valueStream, Stream<Throwable> throwableStream) {
+        this.valueStream = valueStream;
+        this.exceptionStream = throwableStream;
+    }
+
+    public DoubleStream getValueStream() {
+        return valueStream;
+    }
+
+    public Stream<Throwable> getExceptionStream() {
+        return exceptionStream;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A Collector that splits a Stream of DoubleResults, in encounter order, into a DoubleSplitStream.
+     * Empty DoubleResults have no value, and are dropped.
+     */
+    public static Collector<DoubleResult, ?, DoubleSplitStream> collector() {
+        return Collector.of(Builder::new, Builder::add, Builder::append, Builder::build);
+    }
+
+    /**
+     * Accumulates {@code double} values and Throwables in encounter order. Builders are combined with
+     * {@link #append(Builder)} in constant time, without copying either side.
+     * A Builder may only be built once, and may not be modified afterwards.
+     */
+    public static class Builder {
+        private final DoubleChunkedBuffer valueBuffer;
+        private final ChunkedBuffer<Throwable> exceptionBuffer;
+        private boolean built;
+
+        public Builder() {
+            valueBuffer = new DoubleChunkedBuffer();
+            exceptionBuffer = new ChunkedBuffer<>();
+        }
+
+        public DoubleSplitStream build() {
+            checkNotBuilt();
+            built = true;
+            return new DoubleSplitStream(valueBuffer, exceptionBuffer);
+        }
+
+        /**
+         * Moves the contents of {@code other} to the end of this Builder in constant time.
+         * {@code other} may not be used afterwards.
+         */
+        public Builder append(Builder other) {
+            if (other == this) {
+                throw new IllegalArgumentException("Cannot append a DoubleSplitStream.Builder to itself");
+            }
+            checkNotBuilt();
+            other.checkNotBuilt();
+            other.built = true;
+            valueBuffer.append(other.valueBuffer);
+            exceptionBuffer.append(other.exceptionBuffer);
+            return this;
+        }
+
+        public Builder addValue(double value) {
+            checkNotBuilt();
+            valueBuffer.add(value);
+            return this;
+        }
+
+        public Builder addException(Throwable error) {
+            checkNotBuilt();
+            exceptionBuffer.add(error);
+            return this;
+        }
+
+        public Builder add(DoubleResult result) {
+            checkNotBuilt();
+            if (result.isPresent()) {
+                valueBuffer.add(result.get());
+            } else if (result.isRejected()) {
+                exceptionBuffer.add(result.getException());
+            }
+            return this;
+        }
+
+        private void checkNotBuilt() {
+            if (built) {
+                throw new IllegalStateException("DoubleSplitStream.Builder has already been built");
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.mooninaut.result;
+
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleUnaryOperator;
+
+/*
+ * EmptyDoubleResult.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+final class EmptyDoubleResult implements DoubleResult {
+
+    private enum Self {
+        INSTANCE;
+
+        private final EmptyDoubleResult value = new EmptyDoubleResult();
+    }
+
+    private EmptyDoubleResult() { }
+
+    static DoubleResult getInstance() {
+        return Self.INSTANCE.value;
+    }
+
+    @Override
+    public boolean isAccepted() {
+        return true;
+    }
+
+    @Override
+    public boolean isPresent() {
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return true;
+    }
+
+    @Override
+    public boolean isRejected() {
+        return false;
+    }
+
+    @Override
+    public double get() {
+        throw new IllegalStateException("Cannot get value from empty DoubleResult");
+    }
+
+    @Override
+    public Throwable getException() {
+        throw new IllegalStateException("Cannot get exception from empty DoubleResult");
+    }
+
+    @Override
+    public double orElse(double other) {
+        return other;
+    }
+
+    @Override
+    public double orElseThrow() {
+        return get();
+    }
+
+    @Override
+    public double orElseThrowRuntime() {
+        return get();
+    }
+
+    @Override
+    public void throwIfRejected() { }
+
+    @Override
+    public void throwRuntimeIfRejected() { }
+
+    @Override
+    public DoubleResult exMap(ExceptionalDoubleUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public DoubleResult map(DoubleUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public <OUT> Result<OUT> exMapToObj(ExceptionalDoubleFunction<? extends OUT> mapper) {
+        return Result.empty();
+    }
+
+    @Override
+    public <OUT> Result<OUT> mapToObj(DoubleFunction<? extends OUT> mapper) {
+        return Result.empty();
+    }
+
+    @Override
+    public Result<Double> toResult() {
+        return Result.empty();
+    }
+
+    @Override
+    public OptionalDouble toOptional() {
+        return OptionalDouble.empty();
+    }
+
+    @Override
+    public DoubleResult ifPresent(DoubleConsumer consumer) {
+        return this;
+    }
+
+    @Override
+    public DoubleResult ifRejected(Consumer<? super Throwable> rejector) {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleResult: empty";
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.mooninaut.result;
+
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+/*
+ * EmptyIntResult.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+final class EmptyIntResult implements IntResult {
+
+    private enum Self {
+        INSTANCE;
+
+        private final EmptyIntResult value = new EmptyIntResult();
+    }
+
+    private EmptyIntResult() { }
+
+    static IntResult getInstance() {
+        return Self.INSTANCE.value;
+    }
+
+    @Override
+    public boolean isAccepted() {
+        return true;
+    }
+
+    @Override
+    public boolean isPresent() {
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return true;
+    }
+
+    @Override
+    public boolean isRejected() {
+        return false;
+    }
+
+    @Override
+    public int get() {
+        throw new IllegalStateException("Cannot get value from empty IntResult");
+    }
+
+    @Override
+    public Throwable getException() {
+        throw new IllegalStateException("Cannot get exception from empty IntResult");
+    }
+
+    @Override
+    public int orElse(int other) {
+        return other;
+    }
+
+    @Override
+    public int orElseThrow() {
+        return get();
+    }
+
+    @Override
+    public int orElseThrowRuntime() {
+        return get();
+    }
+
+    @Override
+    public void throwIfRejected() { }
+
+    @Override
+    public void throwRuntimeIfRejected() { }
+
+    @Override
+    public IntResult exMap(ExceptionalIntUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public IntResult map(IntUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public <OUT> Result<OUT> exMapToObj(ExceptionalIntFunction<? extends OUT> mapper) {
+        return Result.empty();
+    }
+
+    @Override
+    public <OUT> Result<OUT> mapToObj(IntFunction<? extends OUT> mapper) {
+        return Result.empty();
+    }
+
+    @Override
+    public Result<Integer> toResult() {
+        return Result.empty();
+    }
+
+    @Override
+    public OptionalInt toOptional() {
+        return OptionalInt.empty();
+    }
+
+    @Override
+    public IntResult ifPresent(IntConsumer consumer) {
+        return this;
+    }
+
+    @Override
+    public IntResult ifRejected(Consumer<? super Throwable> rejector) {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "IntResult: empty";
+    }
+}
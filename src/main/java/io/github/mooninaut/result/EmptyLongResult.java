@@ -0,0 +1,135 @@
+package io.github.mooninaut.result;
+
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+/*
+ * EmptyLongResult.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+final class EmptyLongResult implements LongResult {
+
+    private enum Self {
+        INSTANCE;
+
+        private final EmptyLongResult value = new EmptyLongResult();
+    }
+
+    private EmptyLongResult() { }
+
+    static LongResult getInstance() {
+        return Self.INSTANCE.value;
+    }
+
+    @Override
+    public boolean isAccepted() {
+        return true;
+    }
+
+    @Override
+    public boolean isPresent() {
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return true;
+    }
+
+    @Override
+    public boolean isRejected() {
+        return false;
+    }
+
+    @Override
+    public long get() {
+        throw new IllegalStateException("Cannot get value from empty LongResult");
+    }
+
+    @Override
+    public Throwable getException() {
+        throw new IllegalStateException("Cannot get exception from empty LongResult");
+    }
+
+    @Override
+    public long orElse(long other) {
+        return other;
+    }
+
+    @Override
+    public long orElseThrow() {
+        return get();
+    }
+
+    @Override
+    public long orElseThrowRuntime() {
+        return get();
+    }
+
+    @Override
+    public void throwIfRejected() { }
+
+    @Override
+    public void throwRuntimeIfRejected() { }
+
+    @Override
+    public LongResult exMap(ExceptionalLongUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public LongResult map(LongUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public <OUT> Result<OUT> exMapToObj(ExceptionalLongFunction<? extends OUT> mapper) {
+        return Result.empty();
+    }
+
+    @Override
+    public <OUT> Result<OUT> mapToObj(LongFunction<? extends OUT> mapper) {
+        return Result.empty();
+    }
+
+    @Override
+    public Result<Long> toResult() {
+        return Result.empty();
+    }
+
+    @Override
+    public OptionalLong toOptional() {
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public LongResult ifPresent(LongConsumer consumer) {
+        return this;
+    }
+
+    @Override
+    public LongResult ifRejected(Consumer<? super Throwable> rejector) {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "LongResult: empty";
+    }
+}
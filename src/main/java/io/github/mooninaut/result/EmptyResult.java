@@ -4,6 +4,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /*
  * EmptyResult.java
@@ -111,13 +114,58 @@ final class EmptyResult<VAL> implements Result<VAL> {
     @Override
     public <OUT, EF extends ExceptionalFunction<? super VAL, ? extends OUT>>
     Result<OUT> exMapChecked(EF mapper, Class<VAL> inClass, Class<OUT> outClass) {
-        return (Result<OUT>) ExceptionalFunctionWrapper
-                .wrapChecked(mapper, inClass, outClass);
+        return ExceptionalFunctionWrapper
+                .wrapChecked(mapper, inClass, outClass).apply(null);
     }
 
     @Override
     public <OUT, F extends Function<? super VAL, ? extends OUT>> Result<OUT> map(F mapper) {
-        return new AcceptedResult<>(mapper.apply(null));
+        return Result.accept(mapper.apply(null));
+    }
+
+    @Override
+    public IntResult exMapToInt(ExceptionalToIntFunction<? super VAL> mapper) {
+        try {
+            return AcceptedIntResult.valueOf(mapper.applyAsInt(null));
+        } catch (Throwable ex) {
+            Exceptions.throwIfUnchecked(ex);
+            return IntResult.reject(ex);
+        }
+    }
+
+    @Override
+    public IntResult mapToInt(ToIntFunction<? super VAL> mapper) {
+        return AcceptedIntResult.valueOf(mapper.applyAsInt(null));
+    }
+
+    @Override
+    public LongResult exMapToLong(ExceptionalToLongFunction<? super VAL> mapper) {
+        try {
+            return AcceptedLongResult.valueOf(mapper.applyAsLong(null));
+        } catch (Throwable ex) {
+            Exceptions.throwIfUnchecked(ex);
+            return LongResult.reject(ex);
+        }
+    }
+
+    @Override
+    public LongResult mapToLong(ToLongFunction<? super VAL> mapper) {
+        return AcceptedLongResult.valueOf(mapper.applyAsLong(null));
+    }
+
+    @Override
+    public DoubleResult exMapToDouble(ExceptionalToDoubleFunction<? super VAL> mapper) {
+        try {
+            return new AcceptedDoubleResult(mapper.applyAsDouble(null));
+        } catch (Throwable ex) {
+            Exceptions.throwIfUnchecked(ex);
+            return DoubleResult.reject(ex);
+        }
+    }
+
+    @Override
+    public DoubleResult mapToDouble(ToDoubleFunction<? super VAL> mapper) {
+        return new AcceptedDoubleResult(mapper.applyAsDouble(null));
     }
 
     @Override
@@ -191,7 +239,7 @@ final class EmptyResult<VAL> implements Result<VAL> {
 
     @Override
     public boolean equals(Object obj) {
-        return super.equals(obj);
+        return super.equals(LazyResult.unwrap(obj));
     }
 
     @Override
@@ -0,0 +1,180 @@
+package io.github.mooninaut.result;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collector;
+
+/*
+ * ExceptionGroups.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * The values of a stream of Results, with its rejections grouped by route: a list of exception classes, each
+ * matching itself and its subclasses. Produced in one pass by {@link Results#groupingByException(Class[])}.
+ * Every list preserves encounter order. Immutable.
+ */
+public final class ExceptionGroups<VAL> {
+    private final List<VAL> values;
+    private final Map<Class<? extends Throwable>, List<Throwable>> groups;
+    private final List<Throwable> unmatched;
+
+    private ExceptionGroups(List<VAL> values,
+                            Map<Class<? extends Throwable>, List<Throwable>> groups,
+                            List<Throwable> unmatched) {
+        this.values = Collections.unmodifiableList(values);
+        this.groups = Collections.unmodifiableMap(groups);
+        this.unmatched = Collections.unmodifiableList(unmatched);
+    }
+
+    static <VAL> Collector<Result<VAL>, ?, ExceptionGroups<VAL>> collector(List<Class<? extends Throwable>> routes) {
+        Router router = new Router(routes);
+        return Collector.of(
+                () -> new Accumulator<VAL>(router),
+                Accumulator::add,
+                Accumulator::combine,
+                Accumulator::finish);
+    }
+
+    /**
+     * The values of the accepted Results, including {@code null} for empty ones.
+     */
+    public List<VAL> getValues() {
+        return values;
+    }
+
+    /**
+     * Each route's rejections, in route order. Routes without rejections map to an empty list.
+     */
+    public Map<Class<? extends Throwable>, List<Throwable>> getGroups() {
+        return groups;
+    }
+
+    /**
+     * The rejections routed to {@code route}.
+     * @throws IllegalArgumentException if {@code route} is not one of the collector's routes
+     */
+    @SuppressWarnings("unchecked")
+    public <EX extends Throwable> List<EX> getGroup(Class<EX> route) {
+        List<Throwable> group = groups.get(route);
+        if (group == null) {
+            throw new IllegalArgumentException("Not a route: " + route);
+        }
+        return (List<EX>) group;
+    }
+
+    /**
+     * The rejections that matched no route.
+     */
+    public List<Throwable> getUnmatched() {
+        return unmatched;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("ExceptionGroups{values=").append(values.size());
+        groups.forEach((route, group) -> builder.append(", ").append(route.getName()).append('=').append(group.size()));
+        return builder.append(", unmatched=").append(unmatched.size()).append('}').toString();
+    }
+
+    /**
+     * Resolves each exception class to the index of the first route it is assignable to, like a sequence of
+     * {@code catch} clauses, or to the number of routes if none. Each class is resolved once and cached, so a
+     * Collector reused across streams, e.g. held in a {@code static final} field, never repeats the search.
+     */
+    private static final class Router extends ClassValue<Integer> {
+        private final List<Class<? extends Throwable>> routes;
+
+        Router(List<Class<? extends Throwable>> routes) {
+            if (routes.isEmpty()) {
+                throw new IllegalArgumentException("At least one route is required");
+            }
+            for (int i = 0; i < routes.size(); i++) {
+                Objects.requireNonNull(routes.get(i), "route");
+                if (routes.subList(0, i).contains(routes.get(i))) {
+                    throw new IllegalArgumentException("Duplicate route: " + routes.get(i));
+                }
+            }
+            this.routes = Collections.unmodifiableList(new ArrayList<>(routes));
+        }
+
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            for (int i = 0; i < routes.size(); i++) {
+                if (routes.get(i).isAssignableFrom(type)) {
+                    return i;
+                }
+            }
+            return routes.size();
+        }
+    }
+
+    /**
+     * Mutable state of one collection: a value buffer plus one rejection buffer per route and one for unmatched
+     * rejections, the last slot. Not thread-safe; parallel streams combine one per split in constant time.
+     */
+    private static final class Accumulator<VAL> {
+        private final Router router;
+        private final ChunkedBuffer<VAL> values = new ChunkedBuffer<>();
+        private final ChunkedBuffer<Throwable>[] rejections;
+        // Rejections tend to come in runs of one type; remembering the last one skips most ClassValue lookups.
+        private Class<?> lastType;
+        private int lastIndex;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Accumulator(Router router) {
+            this.router = router;
+            rejections = new ChunkedBuffer[router.routes.size() + 1];
+            for (int i = 0; i < rejections.length; i++) {
+                rejections[i] = new ChunkedBuffer<>();
+            }
+        }
+
+        void add(Result<VAL> result) {
+            if (result.isAccepted()) {
+                values.add(result.get());
+                return;
+            }
+            Throwable throwable = result.getException();
+            Class<?> type = throwable.getClass();
+            if (type != lastType) {
+                lastType = type;
+                lastIndex = router.get(type);
+            }
+            rejections[lastIndex].add(throwable);
+        }
+
+        Accumulator<VAL> combine(Accumulator<VAL> other) {
+            values.append(other.values);
+            for (int i = 0; i < rejections.length; i++) {
+                rejections[i].append(other.rejections[i]);
+            }
+            return this;
+        }
+
+        ExceptionGroups<VAL> finish() {
+            List<Class<? extends Throwable>> routes = router.routes;
+            Map<Class<? extends Throwable>, List<Throwable>> groups = new LinkedHashMap<>();
+            for (int i = 0; i < routes.size(); i++) {
+                groups.put(routes.get(i), rejections[i].toList());
+            }
+            return new ExceptionGroups<>(values.toList(), groups, rejections[routes.size()].toList());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.mooninaut.result;
 
+import java.util.Objects;
 import java.util.function.Function;
 
 /*
@@ -27,6 +28,80 @@ public interface ExceptionalFunctionWrapper<IN, OUT> extends Function<IN, Result
         return new ExceptionalFunctionWrapperImpl<>(ef);
     }
 
+    /**
+     * Like {@link #wrap(ExceptionalFunction)}, but reports each outcome to the installed
+     * {@link ResultInstrumentation} under {@code tag}.
+     */
+    static <IN, OUT>
+    ExceptionalFunctionWrapperImpl<IN, OUT>
+    wrap(String tag, ExceptionalFunction<? super IN, ? extends OUT> ef) {
+        return new ExceptionalFunctionWrapperImpl<>(tag, ef);
+    }
+
+    /**
+     * Like {@link #wrap(ExceptionalFunction)}, but also records the latency of each call, separately for accepted
+     * and rejected outcomes.
+     */
+    static <IN, OUT>
+    TimedExceptionalFunctionWrapper<IN, OUT>
+    timed(ExceptionalFunction<? super IN, ? extends OUT> ef) {
+        return new TimedExceptionalFunctionWrapper<>(ResultInstrumentation.UNTAGGED, ef);
+    }
+
+    /**
+     * Like {@link #wrap(String, ExceptionalFunction)}, but also records the latency of each call, separately for
+     * accepted and rejected outcomes.
+     */
+    static <IN, OUT>
+    TimedExceptionalFunctionWrapper<IN, OUT>
+    timed(String tag, ExceptionalFunction<? super IN, ? extends OUT> ef) {
+        return new TimedExceptionalFunctionWrapper<>(tag, ef);
+    }
+
+    /**
+     * Like {@link #wrap(ExceptionalFunction)}, but calls {@code ef} again, sleeping between attempts, for as long
+     * as {@code policy} allows. The Result holds the value of the first successful call, or the last failure.
+     */
+    static <IN, OUT>
+    ExceptionalFunctionWrapper<IN, OUT>
+    retrying(ExceptionalFunction<? super IN, ? extends OUT> ef, RetryPolicy policy) {
+        Objects.requireNonNull(ef);
+        Objects.requireNonNull(policy);
+        return new ExceptionalFunctionWrapperImpl<>(in -> policy.call(() -> ef.apply(in)));
+    }
+
+    /**
+     * Like {@link #wrap(ExceptionalFunction)}, but caches the Result for each input, so {@code ef} runs at most once
+     * per input until the Result expires or is evicted.
+     */
+    static <IN, OUT>
+    MemoizingExceptionalFunctionWrapper<IN, OUT>
+    memoizing(ExceptionalFunction<? super IN, ? extends OUT> ef, MemoizeOptions options) {
+        return new MemoizingExceptionalFunctionWrapper<>(ef, options);
+    }
+
+    /**
+     * {@link #memoizing(ExceptionalFunction, MemoizeOptions)} with {@link MemoizeOptions#defaults()}.
+     */
+    static <IN, OUT>
+    MemoizingExceptionalFunctionWrapper<IN, OUT>
+    memoizing(ExceptionalFunction<? super IN, ? extends OUT> ef) {
+        return memoizing(ef, MemoizeOptions.defaults());
+    }
+
+    /**
+     * Like {@link #wrap(ExceptionalFunction)}, but only calls {@code ef} while {@code breaker} permits. Otherwise
+     * returns the breaker's preallocated Result, rejected with a {@link CircuitBreakerOpenException}.
+     */
+    static <IN, OUT>
+    ExceptionalFunctionWrapper<IN, OUT>
+    withCircuitBreaker(ExceptionalFunction<? super IN, ? extends OUT> ef, CircuitBreaker breaker) {
+        Objects.requireNonNull(ef);
+        Objects.requireNonNull(breaker);
+        ExceptionalFunctionWrapper<IN, OUT> wrapper = wrap(ef);
+        return in -> breaker.execute(wrapper, in);
+    }
+
     static <IN, OUT>
     ExceptionalFunctionWrapper<IN, OUT>
     wrapChecked(
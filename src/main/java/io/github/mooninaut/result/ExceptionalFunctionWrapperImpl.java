@@ -22,8 +22,14 @@ import java.util.Objects;
 public class ExceptionalFunctionWrapperImpl<IN, OUT> implements
         ExceptionalFunctionWrapper<IN, OUT> {
     private final ExceptionalFunction<? super IN, ? extends OUT> exceptionalFunction;
+    private final String tag;
 
     ExceptionalFunctionWrapperImpl(ExceptionalFunction<? super IN, ? extends OUT> exceptionalFunction) {
+        this(ResultInstrumentation.UNTAGGED, exceptionalFunction);
+    }
+
+    ExceptionalFunctionWrapperImpl(String tag, ExceptionalFunction<? super IN, ? extends OUT> exceptionalFunction) {
+        this.tag = Objects.requireNonNull(tag);
         this.exceptionalFunction = Objects.requireNonNull(exceptionalFunction);
     }
 
@@ -31,14 +37,28 @@ public class ExceptionalFunctionWrapperImpl<IN, OUT> implements
         return exceptionalFunction;
     }
 
+    /**
+     * The call-site tag reported to the installed {@link ResultInstrumentation}.
+     */
+    public String getTag() {
+        return tag;
+    }
+
     @Override
     public Result<OUT> apply(IN in) {
+        Object event = JfrEvents.beginCall();
+        OUT out;
         try {
-            return Result.accept(exceptionalFunction.apply(in));
+            out = exceptionalFunction.apply(in);
         } catch (Throwable ex) {
+            JfrEvents.endCall(event, tag, exceptionalFunction, ex);
             Exceptions.throwIfUnchecked(ex);
-            return new RejectedResult<>(ex);
+            Instrumentation.rejected(tag, ex);
+            return ResultLayout.rejected(ex);
         }
+        JfrEvents.endCall(event, tag, exceptionalFunction, null);
+        Instrumentation.accepted(tag, out);
+        return Result.accept(out);
     }
 
     @Override
@@ -50,11 +70,11 @@ public class ExceptionalFunctionWrapperImpl<IN, OUT> implements
             return false;
         }
         ExceptionalFunctionWrapperImpl<?, ?> that = (ExceptionalFunctionWrapperImpl<?, ?>) o;
-        return exceptionalFunction.equals(that.exceptionalFunction);
+        return exceptionalFunction.equals(that.exceptionalFunction) && tag.equals(that.tag);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(exceptionalFunction);
+        return Objects.hash(exceptionalFunction, tag);
     }
 }
@@ -1,5 +1,6 @@
 package io.github.mooninaut.result;
 
+import java.util.Objects;
 import java.util.function.Supplier;
 
 /*
@@ -27,6 +28,42 @@ public interface ExceptionalSupplierWrapper<OUT> extends Supplier<Result<OUT>> {
         return new ExceptionalSupplierWrapperImpl<>(es);
     }
 
+    /**
+     * Like {@link #wrap(ExceptionalSupplier)}, but reports each outcome to the installed
+     * {@link ResultInstrumentation} under {@code tag}.
+     */
+    static <OUT>
+    ExceptionalSupplierWrapper<OUT>
+    wrap(String tag, ExceptionalSupplier<? extends OUT> es) {
+        return new ExceptionalSupplierWrapperImpl<>(tag, es);
+    }
+
+    /**
+     * Like {@link #wrap(ExceptionalSupplier)}, but calls {@code es} again, sleeping between attempts, for as long
+     * as {@code policy} allows. The Result holds the value of the first successful call, or the last failure.
+     */
+    static <OUT>
+    ExceptionalSupplierWrapper<OUT>
+    retrying(ExceptionalSupplier<? extends OUT> es, RetryPolicy policy) {
+        Objects.requireNonNull(es);
+        Objects.requireNonNull(policy);
+        return new ExceptionalSupplierWrapperImpl<>(() -> policy.call(es));
+    }
+
+    /**
+     * Like {@link #wrap(ExceptionalSupplier)}, but only calls {@code es} while {@code breaker} permits. Otherwise
+     * returns the breaker's preallocated Result, rejected with a {@link CircuitBreakerOpenException}.
+     */
+    static <OUT>
+    ExceptionalSupplierWrapper<OUT>
+    withCircuitBreaker(ExceptionalSupplier<? extends OUT> es, CircuitBreaker breaker) {
+        Objects.requireNonNull(es);
+        Objects.requireNonNull(breaker);
+        ExceptionalSupplierWrapper<OUT> wrapper = wrap(es);
+        ExceptionalFunctionWrapper<Object, OUT> call = ignored -> wrapper.get();
+        return () -> breaker.execute(call, null);
+    }
+
     static <IN, OUT>
     ExceptionalSupplierWrapper<OUT>
     wrapChecked(
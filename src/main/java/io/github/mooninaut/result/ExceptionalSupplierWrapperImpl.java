@@ -22,19 +22,32 @@ import java.util.Objects;
 public class ExceptionalSupplierWrapperImpl<OUT> implements
         ExceptionalSupplierWrapper<OUT> {
     private final ExceptionalSupplier<? extends OUT> es;
+    private final String tag;
 
     ExceptionalSupplierWrapperImpl(ExceptionalSupplier<? extends OUT> es) {
+        this(ResultInstrumentation.UNTAGGED, es);
+    }
+
+    ExceptionalSupplierWrapperImpl(String tag, ExceptionalSupplier<? extends OUT> es) {
+        this.tag = Objects.requireNonNull(tag);
         this.es = Objects.requireNonNull(es);
     }
 
     @Override
     public Result<OUT> get() {
+        Object event = JfrEvents.beginCall();
+        OUT out;
         try {
-            return Result.accept(es.get());
+            out = es.get();
         } catch (Throwable ex) {
+            JfrEvents.endCall(event, tag, es, ex);
             Exceptions.throwIfUnchecked(ex);
-            return new RejectedResult<>(ex);
+            Instrumentation.rejected(tag, ex);
+            return ResultLayout.rejected(ex);
         }
+        JfrEvents.endCall(event, tag, es, null);
+        Instrumentation.accepted(tag, out);
+        return Result.accept(out);
     }
 
     @Override
@@ -46,11 +59,11 @@ public class ExceptionalSupplierWrapperImpl<OUT> implements
             return false;
         }
         ExceptionalSupplierWrapperImpl<?> that = (ExceptionalSupplierWrapperImpl<?>) o;
-        return es.equals(that.es);
+        return es.equals(that.es) && tag.equals(that.tag);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(es);
+        return Objects.hash(es, tag);
     }
 }
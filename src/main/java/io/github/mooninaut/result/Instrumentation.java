@@ -0,0 +1,55 @@
+package io.github.mooninaut.result;
+
+import java.util.function.Supplier;
+
+/*
+ * Instrumentation.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Holds the installed {@link ResultInstrumentation}. Each method is a single volatile read and null check when
+ * nothing is installed, small enough to be inlined into every instrumented site.
+ */
+final class Instrumentation {
+    static volatile ResultInstrumentation hook;
+
+    private Instrumentation() { }
+
+    static void accepted(String tag, Object value) {
+        ResultInstrumentation current = hook;
+        if (current != null) {
+            if (value == null) {
+                current.onEmpty(tag);
+            } else {
+                current.onAccepted(tag);
+            }
+        }
+    }
+
+    static void rejected(String tag, Throwable throwable) {
+        ResultInstrumentation current = hook;
+        if (current != null) {
+            current.onRejected(tag, throwable);
+        }
+    }
+
+    static void rejectedLazily(String tag, Supplier<? extends Throwable> throwable) {
+        ResultInstrumentation current = hook;
+        if (current != null) {
+            current.onRejectedLazily(tag, throwable);
+        }
+    }
+}
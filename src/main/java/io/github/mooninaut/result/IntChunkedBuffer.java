@@ -0,0 +1,184 @@
+package io.github.mooninaut.result;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/*
+ * IntChunkedBuffer.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * The {@code int} counterpart of {@link ChunkedBuffer}: an append-only, ordered buffer of linked
+ * {@code int[]} chunks that never boxes, never copies on growth, and concatenates in O(1).
+ * Not thread-safe. Once {@link #stream()} has been called the buffer must not be modified.
+ */
+final class IntChunkedBuffer implements IntConsumer {
+    private static final int FIRST_CHUNK_SIZE = 16;
+    private static final int MAX_CHUNK_SIZE = 4096;
+
+    private static final class Chunk {
+        final int[] items;
+        int count;
+        Chunk next;
+
+        Chunk(int capacity) {
+            items = new int[capacity];
+        }
+    }
+
+    private Chunk head;
+    private Chunk tail;
+    private long size;
+
+    @Override
+    public void accept(int item) {
+        add(item);
+    }
+
+    void add(int item) {
+        Chunk chunk = tail;
+        if (chunk == null || chunk.count == chunk.items.length) {
+            chunk = newChunk(chunk);
+        }
+        chunk.items[chunk.count++] = item;
+        size++;
+    }
+
+    private Chunk newChunk(Chunk last) {
+        int capacity = last == null ? FIRST_CHUNK_SIZE : Math.min(last.items.length * 2, MAX_CHUNK_SIZE);
+        Chunk chunk = new Chunk(capacity);
+        if (last == null) {
+            head = chunk;
+        } else {
+            last.next = chunk;
+        }
+        tail = chunk;
+        return chunk;
+    }
+
+    /**
+     * Moves all elements of {@code other} to the end of this buffer, leaving {@code other} empty.
+     * Runs in constant time regardless of either buffer's size.
+     */
+    IntChunkedBuffer append(IntChunkedBuffer other) {
+        Objects.requireNonNull(other);
+        if (other == this || other.head == null) {
+            return this;
+        }
+        if (head == null) {
+            head = other.head;
+        } else {
+            tail.next = other.head;
+        }
+        tail = other.tail;
+        size += other.size;
+        other.head = null;
+        other.tail = null;
+        other.size = 0;
+        return this;
+    }
+
+    long size() {
+        return size;
+    }
+
+    IntStream stream() {
+        return StreamSupport.intStream(new ChunkSpliterator(head, 0, size), false);
+    }
+
+    /**
+     * Traverses a chain of chunks in order. Splits at the middle element, walking the chunk links to find it, so
+     * both halves are balanced and their sizes stay exact.
+     */
+    private static final class ChunkSpliterator implements Spliterator.OfInt {
+        private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED;
+
+        private Chunk chunk;
+        private int index;
+        private long remaining;
+
+        ChunkSpliterator(Chunk chunk, int index, long remaining) {
+            this.chunk = chunk;
+            this.index = index;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (remaining <= 0) {
+                return false;
+            }
+            while (index >= chunk.count) {
+                chunk = chunk.next;
+                index = 0;
+            }
+            remaining--;
+            action.accept(chunk.items[index++]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Chunk current = chunk;
+            int from = index;
+            long left = remaining;
+            while (left > 0) {
+                int to = (int) Math.min(current.count, from + left);
+                int[] items = current.items;
+                for (int i = from; i < to; i++) {
+                    action.accept(items[i]);
+                }
+                left -= to - from;
+                current = current.next;
+                from = 0;
+            }
+            chunk = current;
+            index = 0;
+            remaining = 0;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            if (remaining <= 1) {
+                return null;
+            }
+            long prefix = remaining / 2;
+            ChunkSpliterator split = new ChunkSpliterator(chunk, index, prefix);
+            long skip = prefix;
+            while (index + skip >= chunk.count) {
+                skip -= chunk.count - index;
+                chunk = chunk.next;
+                index = 0;
+            }
+            index += (int) skip;
+            remaining -= prefix;
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
+    }
+}
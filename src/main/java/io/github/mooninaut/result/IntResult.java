@@ -0,0 +1,210 @@
+package io.github.mooninaut.result;
+
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/*
+ * IntResult.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * An immutable Result type specialized for {@code int}, which contains, if accepted, a {@code int} value or nothing,
+ * or if rejected, a Throwable. Unlike {@code Result<Integer>}, an accepted IntResult does not box its value.
+ * An empty IntResult is accepted, but has no value, and is the counterpart of an empty {@link Result}.
+ */
+public interface IntResult {
+
+    /**
+     * Returns an empty IntResult. May or may not be a singleton.
+     */
+    static IntResult empty() {
+        return EmptyIntResult.getInstance();
+    }
+
+    /**
+     * Creates and returns an accepted IntResult containing {@code val}.
+     */
+    static IntResult accept(int val) {
+        return AcceptedIntResult.valueOf(val);
+    }
+
+    /**
+     * Creates and returns a rejected IntResult containing the provided Throwable, {@code err}.
+     */
+    static IntResult reject(Throwable err) {
+        return new RejectedIntResult(Result.reject(err));
+    }
+
+    /**
+     * Creates and returns a rejected IntResult containing a {@link StacklessException} with the provided message.
+     * @see Result#rejectStackless(String)
+     */
+    static IntResult rejectStackless(String message) {
+        return new RejectedIntResult(Result.rejectStackless(message));
+    }
+
+    /**
+     * Creates and returns a rejected IntResult whose Throwable is created by {@code errSupplier} only when first needed.
+     * @see Result#rejectLazily(Supplier)
+     */
+    static IntResult rejectLazily(Supplier<? extends Throwable> errSupplier) {
+        return new RejectedIntResult(Result.rejectLazily(errSupplier));
+    }
+
+    /**
+     * Captures the value returned by, or the Throwable thrown by, {@code es} in an IntResult.
+     */
+    static IntResult of(ExceptionalIntSupplier es) {
+        try {
+            return accept(es.getAsInt());
+        } catch (Throwable err) {
+            return reject(err);
+        }
+    }
+
+    /**
+     * Converts a {@code Result<Integer>} to an IntResult, unboxing its value. An empty Result becomes an empty IntResult.
+     * A rejected Result keeps its Throwable, which is not created early if the Result was rejected lazily.
+     */
+    static IntResult fromResult(Result<? extends Integer> result) {
+        if (result.isRejected()) {
+            return new RejectedIntResult(result);
+        }
+        if (result.isEmpty()) {
+            return empty();
+        }
+        return accept(result.get());
+    }
+
+    ////// Public methods ///////
+
+    /**
+     * Is this IntResult accepted?
+     * @return true for an accepted value or an empty IntResult, false if rejected.
+     */
+    boolean isAccepted();
+
+    /**
+     * Is this IntResult accepted and does it contain a value?
+     * @return true for an accepted value, false if empty or rejected.
+     */
+    boolean isPresent();
+
+    /**
+     * Is this IntResult accepted and empty?
+     * @return true if this IntResult is accepted and has no value, false if it has a value or is rejected.
+     */
+    boolean isEmpty();
+
+    /**
+     * Is this IntResult rejected?
+     * @return true if this IntResult is rejected, false if accepted.
+     */
+    boolean isRejected();
+
+    /**
+     * Get this IntResult's value if present, or throws IllegalStateException if empty or rejected.
+     */
+    int get() throws IllegalStateException;
+
+    /**
+     * Get this IntResult's Throwable if rejected, or throws IllegalStateException.
+     */
+    Throwable getException() throws IllegalStateException;
+
+    /**
+     * Get this IntResult's value if present, or {@code other} if it is empty or rejected.
+     */
+    int orElse(int other);
+
+    /**
+     * Get this IntResult's value if present, throws the included Throwable if rejected,
+     * or throws IllegalStateException if empty.
+     */
+    int orElseThrow() throws Throwable;
+
+    /**
+     * Get this IntResult's value if present, throws the included Throwable wrapped in a {@link RuntimeException}
+     * if rejected, or throws IllegalStateException if empty.
+     */
+    int orElseThrowRuntime() throws RuntimeException;
+
+    /**
+     * Throws the included Throwable if it is rejected, otherwise does nothing.
+     */
+    void throwIfRejected() throws Throwable;
+
+    /**
+     * Throws the included Throwable wrapped in a {@link RuntimeException} if it is rejected, otherwise does nothing.
+     */
+    void throwRuntimeIfRejected() throws RuntimeException;
+
+    /**
+     * Calls {@code mapper} on this IntResult's value, capturing the result or any checked exception in an IntResult.
+     * Unchecked exceptions propagate, as with {@link Result#exMap}.
+     * @return If a value is present, the result of calling {@code mapper} on it, otherwise {@code this}.
+     */
+    IntResult exMap(ExceptionalIntUnaryOperator mapper);
+
+    /**
+     * Calls {@code mapper} on this IntResult's value.
+     * @return If a value is present, the result of calling {@code mapper} on it, otherwise {@code this}.
+     */
+    IntResult map(IntUnaryOperator mapper);
+
+    /**
+     * Calls {@code mapper} on this IntResult's value, capturing the result or any checked exception in a Result.
+     * Unchecked exceptions propagate, as with {@link Result#exMap}.
+     * @return If a value is present, the result of calling {@code mapper} on it, if empty, an empty Result,
+     * otherwise a Result rejected with this IntResult's Throwable.
+     */
+    <OUT> Result<OUT> exMapToObj(ExceptionalIntFunction<? extends OUT> mapper);
+
+    /**
+     * Calls {@code mapper} on this IntResult's value.
+     * @return If a value is present, the result of calling {@code mapper} on it, if empty, an empty Result,
+     * otherwise a Result rejected with this IntResult's Throwable.
+     */
+    <OUT> Result<OUT> mapToObj(IntFunction<? extends OUT> mapper);
+
+    /**
+     * Converts this IntResult to a {@code Result<Integer>}, boxing its value if present.
+     */
+    Result<Integer> toResult();
+
+    /**
+     * Converts this IntResult to an {@link OptionalInt}.
+     * Does not distinguish between a rejected and an empty IntResult. In either case, returns an empty OptionalInt.
+     */
+    OptionalInt toOptional();
+
+    /**
+     * If a value is present, feed it to the supplied {@link IntConsumer}, otherwise, do nothing.
+     * Chainable.
+     */
+    IntResult ifPresent(IntConsumer consumer);
+
+    /**
+     * If this IntResult is rejected, feed the included {@link Throwable} to the supplied {@link Consumer},
+     * otherwise, do nothing.
+     * Chainable.
+     */
+    IntResult ifRejected(Consumer<? super Throwable> rejector);
+}
@@ -0,0 +1,127 @@
+package io.github.mooninaut.result;
+
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/*
+ * IntSplitStream.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * The {@code int} counterpart of {@link SplitStream}: a {@link IntStream} of present values and a Stream of
+ * Throwables, built from {@link IntResult}s without boxing any value.
+ */
+public class IntSplitStream {
+    private final IntStream valueStream;
+    private final Stream<Throwable> exceptionStream;
+
+    IntSplitStream(IntChunkedBuffer valueBuffer, ChunkedBuffer<Throwable> throwableBuffer) {
+        valueStream = valueBuffer.stream();
+        exceptionStream = throwableBuffer.stream();
+    }
+
+    IntSplitStream(IntStream valueStream, Stream<Throwable> throwableStream) {
+        this.valueStream = valueStream;
+        this.exceptionStream = throwableStream;
+    }
+
+    public IntStream getValueStream() {
+        return valueStream;
+    }
+
+    public Stream<Throwable> getExceptionStream() {
+        return exceptionStream;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A Collector that splits a Stream of IntResults, in encounter order, into an IntSplitStream.
+     * Empty IntResults have no value, and are dropped.
+     */
+    public static Collector<IntResult, ?, IntSplitStream> collector() {
+        return Collector.of(Builder::new, Builder::add, Builder::append, Builder::build);
+    }
+
+    /**
+     * Accumulates {@code int} values and Throwables in encounter order. Builders are combined with
+     * {@link #append(Builder)} in constant time, without copying either side.
+     * A Builder may only be built once, and may not be modified afterwards.
+     */
+    public static class Builder {
+        private final IntChunkedBuffer valueBuffer;
+        private final ChunkedBuffer<Throwable> exceptionBuffer;
+        private boolean built;
+
+        public Builder() {
+            valueBuffer = new IntChunkedBuffer();
+            exceptionBuffer = new ChunkedBuffer<>();
+        }
+
+        public IntSplitStream build() {
+            checkNotBuilt();
+            built = true;
+            return new IntSplitStream(valueBuffer, exceptionBuffer);
+        }
+
+        /**
+         * Moves the contents of {@code other} to the end of this Builder in constant time.
+         * {@code other} may not be used afterwards.
+         */
+        public Builder append(Builder other) {
+            if (other == this) {
+                throw new IllegalArgumentException("Cannot append an IntSplitStream.Builder to itself");
+            }
+            checkNotBuilt();
+            other.checkNotBuilt();
+            other.built = true;
+            valueBuffer.append(other.valueBuffer);
+            exceptionBuffer.append(other.exceptionBuffer);
+            return this;
+        }
+
+        public Builder addValue(int value) {
+            checkNotBuilt();
+            valueBuffer.add(value);
+            return this;
+        }
+
+        public Builder addException(Throwable error) {
+            checkNotBuilt();
+            exceptionBuffer.add(error);
+            return this;
+        }
+
+        public Builder add(IntResult result) {
+            checkNotBuilt();
+            if (result.isPresent()) {
+                valueBuffer.add(result.get());
+            } else if (result.isRejected()) {
+                exceptionBuffer.add(result.getException());
+            }
+            return this;
+        }
+
+        private void checkNotBuilt() {
+            if (built) {
+                throw new IllegalStateException("IntSplitStream.Builder has already been built");
+            }
+        }
+    }
+}
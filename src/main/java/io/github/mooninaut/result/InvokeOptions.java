@@ -0,0 +1,138 @@
+package io.github.mooninaut.result;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+
+/*
+ * InvokeOptions.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Options for {@link Results#invokeAll(java.util.Collection, InvokeOptions)}.
+ * Immutable; create with {@link #builder()}, or use {@link #defaults()}.
+ */
+public final class InvokeOptions {
+    static final int DEFAULT_PLATFORM_THREADS = 64;
+
+    private static final InvokeOptions DEFAULTS = builder().build();
+
+    private final int concurrency;
+    private final Duration deadline;
+    private final ExecutorService executor;
+    private final int platformThreads;
+
+    private InvokeOptions(Builder builder) {
+        this.concurrency = builder.concurrency;
+        this.deadline = builder.deadline;
+        this.executor = builder.executor;
+        this.platformThreads = builder.platformThreads;
+    }
+
+    /**
+     * Unlimited concurrency, no deadline, and a new virtual thread per task where available.
+     */
+    public static InvokeOptions defaults() {
+        return DEFAULTS;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The maximum number of tasks running at once.
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * How long the whole batch may take, or {@code null} for no limit.
+     */
+    public Duration getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * The ExecutorService to run tasks on, or {@code null} to create one for each batch.
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * The maximum size of the thread pool created for each batch when virtual threads are not available.
+     */
+    public int getPlatformThreads() {
+        return platformThreads;
+    }
+
+    public static class Builder {
+        private int concurrency = Integer.MAX_VALUE;
+        private Duration deadline;
+        private ExecutorService executor;
+        private int platformThreads = DEFAULT_PLATFORM_THREADS;
+
+        /**
+         * Limits the number of tasks running at once. Further tasks are started as earlier ones complete.
+         */
+        public Builder concurrency(int concurrency) {
+            if (concurrency < 1) {
+                throw new IllegalArgumentException("concurrency must be positive: " + concurrency);
+            }
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * Limits how long the whole batch may take. When it passes, tasks still running are interrupted and
+         * they, and any that have not started, are rejected with a {@link java.util.concurrent.TimeoutException}.
+         */
+        public Builder deadline(Duration deadline) {
+            if (deadline.isNegative()) {
+                throw new IllegalArgumentException("deadline must not be negative: " + deadline);
+            }
+            this.deadline = deadline;
+            return this;
+        }
+
+        /**
+         * Runs tasks on {@code executor} instead of creating an executor for each batch.
+         * The executor is not shut down afterwards.
+         */
+        public Builder executor(ExecutorService executor) {
+            this.executor = Objects.requireNonNull(executor);
+            return this;
+        }
+
+        /**
+         * Sets the maximum size of the per-batch thread pool used when virtual threads are not available
+         * (before Java 21). Defaults to {@value InvokeOptions#DEFAULT_PLATFORM_THREADS}.
+         */
+        public Builder platformThreads(int platformThreads) {
+            if (platformThreads < 1) {
+                throw new IllegalArgumentException("platformThreads must be positive: " + platformThreads);
+            }
+            this.platformThreads = platformThreads;
+            return this;
+        }
+
+        public InvokeOptions build() {
+            return new InvokeOptions(this);
+        }
+    }
+}
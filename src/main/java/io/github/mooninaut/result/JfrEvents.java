@@ -0,0 +1,49 @@
+package io.github.mooninaut.result;
+
+/*
+ * JfrEvents.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Emits Java Flight Recorder events. This is the Java 8 version, in which every method does nothing and is
+ * inlined away. The multi-release jar replaces it on Java 11 and later with a version that emits the events
+ * {@code io.github.mooninaut.result.Rejected} and {@code io.github.mooninaut.result.WrappedCall}.
+ */
+final class JfrEvents {
+    private JfrEvents() { }
+
+    /**
+     * Called when a rejected Result is created. {@code throwable} is null if it will be supplied lazily.
+     */
+    static void rejected(Throwable throwable) { }
+
+    /**
+     * Called before a wrapped function or supplier runs. Returns a token for {@link #endCall}, or null if the
+     * event is disabled.
+     */
+    static Object beginCall() {
+        return null;
+    }
+
+    /**
+     * Called after a wrapped function or supplier returns or throws.
+     * @param token the value returned by {@link #beginCall()}
+     * @param tag the wrapper's call-site tag
+     * @param target the wrapped function or supplier
+     * @param failure what it threw, or null if it returned normally
+     */
+    static void endCall(Object token, String tag, Object target, Throwable failure) { }
+}
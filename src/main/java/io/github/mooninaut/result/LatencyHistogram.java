@@ -0,0 +1,180 @@
+package io.github.mooninaut.result;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * LatencyHistogram.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * A lock-free histogram of non-negative durations in nanoseconds, with log-linear buckets in the style of
+ * HdrHistogram: each power of two is split into {@value #SUB_BUCKETS} equal buckets, so any reported percentile is
+ * within about 3% of the true value, across the whole range of {@code long}, in a fixed 15 KiB of memory.
+ * <p>
+ * {@link #record(long)} is wait-free apart from the atomic increments, and safe to call from any number of threads.
+ * Read it with {@link #snapshot()}.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = bucketIndex(Long.MAX_VALUE) + 1;
+
+    ////// Fields //////
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    ////// Public methods //////
+
+    /**
+     * Records one duration. Negative durations, which System.nanoTime can produce on some platforms, count as zero.
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts.incrementAndGet(bucketIndex(value));
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Copies the current counts. Durations recorded concurrently with the copy may or may not be included.
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        return new Snapshot(copy, count, total.sum(), max.get());
+    }
+
+    /**
+     * Discards all recorded durations. Not atomic with respect to concurrent calls to {@link #record(long)}.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        total.reset();
+        max.reset();
+    }
+
+    ////// Package-private methods //////
+
+    /**
+     * Values below {@code SUB_BUCKETS} get a bucket each; above that, the top {@code SUB_BUCKET_BITS} bits after
+     * the leading one select one of {@code SUB_BUCKETS} buckets within the value's power of two.
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * The largest value that maps to bucket {@code index}.
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long lowest = ((long) (SUB_BUCKETS + (index & (SUB_BUCKETS - 1)))) << shift;
+        return lowest + ((1L << shift) - 1);
+    }
+
+    /**
+     * An immutable copy of a {@link LatencyHistogram}.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long total;
+        private final long max;
+
+        private Snapshot(long[] counts, long count, long total, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.total = total;
+            this.max = max;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        /**
+         * The largest recorded duration in nanoseconds, exactly, or 0 if none.
+         */
+        public long max() {
+            return max;
+        }
+
+        /**
+         * The mean recorded duration in nanoseconds, or 0 if none.
+         */
+        public double mean() {
+            return count == 0 ? 0 : (double) total / count;
+        }
+
+        /**
+         * The smallest duration, in nanoseconds, that at least {@code percentile} percent of recorded durations are
+         * less than or equal to, to within the histogram's precision. Returns 0 if nothing was recorded.
+         * @param percentile from 0 to 100, e.g. 99.9
+         */
+        public long valueAtPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), max);
+                }
+            }
+            return max;
+        }
+
+        /**
+         * Same as {@link #valueAtPercentile(double)}, converted to {@code unit}.
+         */
+        public long valueAtPercentile(double percentile, TimeUnit unit) {
+            return unit.convert(valueAtPercentile(percentile), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public String toString() {
+            return "LatencyHistogram.Snapshot{count=" + count
+                    + ", mean=" + (long) mean()
+                    + "ns, p50=" + valueAtPercentile(50)
+                    + "ns, p90=" + valueAtPercentile(90)
+                    + "ns, p99=" + valueAtPercentile(99)
+                    + "ns, p99.9=" + valueAtPercentile(99.9)
+                    + "ns, max=" + max + "ns}";
+        }
+    }
+}
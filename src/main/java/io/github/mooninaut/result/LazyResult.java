@@ -0,0 +1,349 @@
+package io.github.mooninaut.result;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/*
+ * LazyResult.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * A Result computed on first use. Created by {@link Result#lazy(ExceptionalSupplier)}.
+ * <p>
+ * {@link #map}, {@link #exMap}, {@link #exMapChecked} and {@link #uncheckedCast} return further lazy Results without
+ * evaluating anything, so a whole chain runs only if something inspects its end. Every other method evaluates this
+ * Result, at most once and thread-safely, and then delegates to the evaluated Result. {@link #toString()} does not
+ * evaluate.
+ * <p>
+ * Each lazy Result links to the one it was mapped from, and a chain is evaluated iteratively from its first
+ * unevaluated link, so chains of any length evaluate without deep recursion.
+ * If evaluation throws an unchecked exception, as {@code map} does when its mapper throws, that exception is
+ * remembered and rethrown, as the same instance, by every later access; the supplier and mappers are never called
+ * again.
+ */
+final class LazyResult<VAL> implements Result<VAL> {
+
+    ////// Fields //////
+    private volatile Result<VAL> evaluated;
+    private volatile RuntimeException runtimeFailure;
+    private volatile Error errorFailure;
+    /**
+     * The lazy Result this one is mapped from, or null for the start of a chain. Cleared once evaluated.
+     */
+    private LazyResult<?> source;
+    /**
+     * Computes this Result from the evaluated {@link #source}, or from null at the start of a chain.
+     * Cleared once evaluated.
+     */
+    private Function<Result<?>, ? extends Result<VAL>> step;
+
+    ////// Constructors ///////
+    LazyResult(Supplier<? extends Result<VAL>> supplier) {
+        Objects.requireNonNull(supplier);
+        this.step = ignored -> supplier.get();
+    }
+
+    private LazyResult(LazyResult<?> source, Function<Result<?>, ? extends Result<VAL>> step) {
+        this.source = source;
+        this.step = step;
+    }
+
+    /**
+     * Returns the evaluated Result if {@code o} is a LazyResult, otherwise {@code o}. Used by the other Result
+     * classes' {@code equals}, so that equality with a lazy Result is symmetric.
+     */
+    static Object unwrap(Object o) {
+        return o instanceof LazyResult ? ((LazyResult<?>) o).evaluate() : o;
+    }
+
+    boolean isEvaluated() {
+        return evaluated != null;
+    }
+
+    private boolean isDone() {
+        return evaluated != null || runtimeFailure != null || errorFailure != null;
+    }
+
+    /**
+     * Evaluates every unevaluated link above this one, starting from the furthest, so that each link's own
+     * evaluation finds its source already evaluated and never recurses.
+     */
+    private Result<VAL> evaluate() {
+        Result<VAL> result = evaluated;
+        if (result != null) {
+            return result;
+        }
+        ArrayDeque<LazyResult<?>> pending = new ArrayDeque<>();
+        for (LazyResult<?> link = pendingSource(); link != null; link = link.pendingSource()) {
+            pending.push(link);
+        }
+        while (!pending.isEmpty()) {
+            try {
+                pending.pop().evaluateLink();
+            } catch (RuntimeException | Error ignored) {
+                // Remembered by the failed link and its descendants; rethrown below by this link
+            }
+        }
+        return evaluateLink();
+    }
+
+    private synchronized LazyResult<?> pendingSource() {
+        LazyResult<?> link = source;
+        return link == null || link.isDone() ? null : link;
+    }
+
+    private synchronized Result<VAL> evaluateLink() {
+        Result<VAL> result = evaluated;
+        if (result != null) {
+            return result;
+        }
+        if (runtimeFailure != null) {
+            throw runtimeFailure;
+        }
+        if (errorFailure != null) {
+            throw errorFailure;
+        }
+        try {
+            Result<?> input = source == null ? null : source.evaluateLink();
+            result = Objects.requireNonNull(step.apply(input), "lazy Result supplier returned null");
+        } catch (RuntimeException failure) {
+            runtimeFailure = failure;
+            throw failure;
+        } catch (Error failure) {
+            errorFailure = failure;
+            throw failure;
+        } finally {
+            source = null;
+            step = null;
+        }
+        evaluated = result;
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <OUT> Result<OUT> then(Function<Result<VAL>, ? extends Result<OUT>> next) {
+        return new LazyResult<>(this, input -> next.apply((Result<VAL>) input));
+    }
+
+    ////// Deferred methods //////
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <OUT> Result<OUT> uncheckedCast() {
+        return (Result<OUT>) this;
+    }
+
+    @Override
+    public <OUT, EF extends ExceptionalFunction<? super VAL, ? extends OUT>>
+    Result<OUT> exMap(EF mapper) {
+        Objects.requireNonNull(mapper);
+        return then(result -> result.exMap(mapper));
+    }
+
+    @Override
+    public <OUT, EF extends ExceptionalFunction<? super VAL, ? extends OUT>>
+    Result<OUT> exMapChecked(EF mapper, Class<VAL> inClass, Class<OUT> outClass) {
+        Objects.requireNonNull(mapper);
+        return then(result -> result.exMapChecked(mapper, inClass, outClass));
+    }
+
+    @Override
+    public <OUT, F extends Function<? super VAL, ? extends OUT>>
+    Result<OUT> map(F mapper) {
+        Objects.requireNonNull(mapper);
+        return then(result -> result.map(mapper));
+    }
+
+    ////// Evaluating methods //////
+
+    @Override
+    public boolean isAccepted() {
+        return evaluate().isAccepted();
+    }
+
+    @Override
+    public boolean isPresent() {
+        return evaluate().isPresent();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return evaluate().isEmpty();
+    }
+
+    @Override
+    public boolean isRejected() {
+        return evaluate().isRejected();
+    }
+
+    @Override
+    public Optional<Class<?>> getValueType() {
+        return evaluate().getValueType();
+    }
+
+    @Override
+    public <OUT> Result<OUT> checkedCast(Class<OUT> type) throws ClassCastException {
+        return evaluate().checkedCast(type);
+    }
+
+    @Override
+    public VAL get() throws IllegalStateException {
+        return evaluate().get();
+    }
+
+    @Override
+    public Throwable getException() throws IllegalStateException {
+        return evaluate().getException();
+    }
+
+    @Override
+    public VAL orElse(VAL other) {
+        return evaluate().orElse(other);
+    }
+
+    @Override
+    public VAL orElseThrow() throws Throwable {
+        return evaluate().orElseThrow();
+    }
+
+    @Override
+    public VAL orElseThrowRuntime() throws RuntimeException {
+        return evaluate().orElseThrowRuntime();
+    }
+
+    @Override
+    public void throwIfRejected() throws Throwable {
+        evaluate().throwIfRejected();
+    }
+
+    @Override
+    public void throwRuntimeIfRejected() throws RuntimeException {
+        evaluate().throwRuntimeIfRejected();
+    }
+
+    @Override
+    public IntResult exMapToInt(ExceptionalToIntFunction<? super VAL> mapper) {
+        return evaluate().exMapToInt(mapper);
+    }
+
+    @Override
+    public IntResult mapToInt(ToIntFunction<? super VAL> mapper) {
+        return evaluate().mapToInt(mapper);
+    }
+
+    @Override
+    public LongResult exMapToLong(ExceptionalToLongFunction<? super VAL> mapper) {
+        return evaluate().exMapToLong(mapper);
+    }
+
+    @Override
+    public LongResult mapToLong(ToLongFunction<? super VAL> mapper) {
+        return evaluate().mapToLong(mapper);
+    }
+
+    @Override
+    public DoubleResult exMapToDouble(ExceptionalToDoubleFunction<? super VAL> mapper) {
+        return evaluate().exMapToDouble(mapper);
+    }
+
+    @Override
+    public DoubleResult mapToDouble(ToDoubleFunction<? super VAL> mapper) {
+        return evaluate().mapToDouble(mapper);
+    }
+
+    @Override
+    public Optional<VAL> toOptional() throws NullPointerException {
+        return evaluate().toOptional();
+    }
+
+    @Override
+    public Optional<VAL> toNullableOptional() {
+        return evaluate().toNullableOptional();
+    }
+
+    @Override
+    public Result<VAL> ifAccepted(Consumer<? super VAL> consumer) {
+        evaluate().ifAccepted(consumer);
+        return this;
+    }
+
+    @Override
+    public Result<VAL> ifRejected(Consumer<? super Throwable> rejector) {
+        evaluate().ifRejected(rejector);
+        return this;
+    }
+
+    @Override
+    public Result<VAL> then(Consumer<? super VAL> consumer, Consumer<? super Throwable> rejector) {
+        evaluate().then(consumer, rejector);
+        return this;
+    }
+
+    @Override
+    public Result<VAL> acceptOrElse(Consumer<? super VAL> consumer, VAL other) {
+        evaluate().acceptOrElse(consumer, other);
+        return this;
+    }
+
+    @Override
+    public Result<VAL> acceptOrElseThrow(Consumer<? super VAL> consumer) throws Throwable {
+        evaluate().acceptOrElseThrow(consumer);
+        return this;
+    }
+
+    @Override
+    public Result<VAL> acceptOrElseThrowRuntime(Consumer<? super VAL> consumer) throws RuntimeException {
+        evaluate().acceptOrElseThrowRuntime(consumer);
+        return this;
+    }
+
+    @Override
+    public Result<VAL> acceptOrPrintStacktrace(Consumer<? super VAL> consumer) {
+        evaluate().acceptOrPrintStacktrace(consumer);
+        return this;
+    }
+
+    ////// Object overrides //////
+
+    /**
+     * Evaluates this Result and compares it with {@code o}, which is also evaluated if it is lazy.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return evaluate().equals(unwrap(o));
+    }
+
+    @Override
+    public int hashCode() {
+        return evaluate().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        Result<VAL> result = evaluated;
+        return result == null ? "Result: lazy, not yet evaluated" : result.toString();
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.mooninaut.result;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/*
+ * LazyThrowable.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Calls the wrapped Supplier once, on first use, and remembers its Throwable.
+ */
+final class LazyThrowable {
+    private volatile Throwable throwable;
+    private Supplier<? extends Throwable> supplier;
+
+    LazyThrowable(Supplier<? extends Throwable> supplier) {
+        this.supplier = Objects.requireNonNull(supplier);
+    }
+
+    Throwable get() {
+        Throwable result = throwable;
+        if (result == null) {
+            synchronized (this) {
+                result = throwable;
+                if (result == null) {
+                    result = Objects.requireNonNull(supplier.get(), "Throwable supplier returned null");
+                    throwable = result;
+                    supplier = null;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,210 @@
+package io.github.mooninaut.result;
+
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/*
+ * LongResult.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * An immutable Result type specialized for {@code long}, which contains, if accepted, a {@code long} value or nothing,
+ * or if rejected, a Throwable. Unlike {@code Result<Long>}, an accepted LongResult does not box its value.
+ * An empty LongResult is accepted, but has no value, and is the counterpart of an empty {@link Result}.
+ */
+public interface LongResult {
+
+    /**
+     * Returns an empty LongResult. May or may not be a singleton.
+     */
+    static LongResult empty() {
+        return EmptyLongResult.getInstance();
+    }
+
+    /**
+     * Creates and returns an accepted LongResult containing {@code val}.
+     */
+    static LongResult accept(long val) {
+        return AcceptedLongResult.valueOf(val);
+    }
+
+    /**
+     * Creates and returns a rejected LongResult containing the provided Throwable, {@code err}.
+     */
+    static LongResult reject(Throwable err) {
+        return new RejectedLongResult(Result.reject(err));
+    }
+
+    /**
+     * Creates and returns a rejected LongResult containing a {@link StacklessException} with the provided message.
+     * @see Result#rejectStackless(String)
+     */
+    static LongResult rejectStackless(String message) {
+        return new RejectedLongResult(Result.rejectStackless(message));
+    }
+
+    /**
+     * Creates and returns a rejected LongResult whose Throwable is created by {@code errSupplier} only when first needed.
+     * @see Result#rejectLazily(Supplier)
+     */
+    static LongResult rejectLazily(Supplier<? extends Throwable> errSupplier) {
+        return new RejectedLongResult(Result.rejectLazily(errSupplier));
+    }
+
+    /**
+     * Captures the value returned by, or the Throwable thrown by, {@code es} in a LongResult.
+     */
+    static LongResult of(ExceptionalLongSupplier es) {
+        try {
+            return accept(es.getAsLong());
+        } catch (Throwable err) {
+            return reject(err);
+        }
+    }
+
+    /**
+     * Converts a {@code Result<Long>} to a LongResult, unboxing its value. An empty Result becomes an empty LongResult.
+     * A rejected Result keeps its Throwable, which is not created early if the Result was rejected lazily.
+     */
+    static LongResult fromResult(Result<? extends Long> result) {
+        if (result.isRejected()) {
+            return new RejectedLongResult(result);
+        }
+        if (result.isEmpty()) {
+            return empty();
+        }
+        return accept(result.get());
+    }
+
+    ////// Public methods ///////
+
+    /**
+     * Is this LongResult accepted?
+     * @return true for an accepted value or an empty LongResult, false if rejected.
+     */
+    boolean isAccepted();
+
+    /**
+     * Is this LongResult accepted and does it contain a value?
+     * @return true for an accepted value, false if empty or rejected.
+     */
+    boolean isPresent();
+
+    /**
+     * Is this LongResult accepted and empty?
+     * @return true if this LongResult is accepted and has no value, false if it has a value or is rejected.
+     */
+    boolean isEmpty();
+
+    /**
+     * Is this LongResult rejected?
+     * @return true if this LongResult is rejected, false if accepted.
+     */
+    boolean isRejected();
+
+    /**
+     * Get this LongResult's value if present, or throws IllegalStateException if empty or rejected.
+     */
+    long get() throws IllegalStateException;
+
+    /**
+     * Get this LongResult's Throwable if rejected, or throws IllegalStateException.
+     */
+    Throwable getException() throws IllegalStateException;
+
+    /**
+     * Get this LongResult's value if present, or {@code other} if it is empty or rejected.
+     */
+    long orElse(long other);
+
+    /**
+     * Get this LongResult's value if present, throws the included Throwable if rejected,
+     * or throws IllegalStateException if empty.
+     */
+    long orElseThrow() throws Throwable;
+
+    /**
+     * Get this LongResult's value if present, throws the included Throwable wrapped in a {@link RuntimeException}
+     * if rejected, or throws IllegalStateException if empty.
+     */
+    long orElseThrowRuntime() throws RuntimeException;
+
+    /**
+     * Throws the included Throwable if it is rejected, otherwise does nothing.
+     */
+    void throwIfRejected() throws Throwable;
+
+    /**
+     * Throws the included Throwable wrapped in a {@link RuntimeException} if it is rejected, otherwise does nothing.
+     */
+    void throwRuntimeIfRejected() throws RuntimeException;
+
+    /**
+     * Calls {@code mapper} on this LongResult's value, capturing the result or any checked exception in a LongResult.
+     * Unchecked exceptions propagate, as with {@link Result#exMap}.
+     * @return If a value is present, the result of calling {@code mapper} on it, otherwise {@code this}.
+     */
+    LongResult exMap(ExceptionalLongUnaryOperator mapper);
+
+    /**
+     * Calls {@code mapper} on this LongResult's value.
+     * @return If a value is present, the result of calling {@code mapper} on it, otherwise {@code this}.
+     */
+    LongResult map(LongUnaryOperator mapper);
+
+    /**
+     * Calls {@code mapper} on this LongResult's value, capturing the result or any checked exception in a Result.
+     * Unchecked exceptions propagate, as with {@link Result#exMap}.
+     * @return If a value is present, the result of calling {@code mapper} on it, if empty, an empty Result,
+     * otherwise a Result rejected with this LongResult's Throwable.
+     */
+    <OUT> Result<OUT> exMapToObj(ExceptionalLongFunction<? extends OUT> mapper);
+
+    /**
+     * Calls {@code mapper} on this LongResult's value.
+     * @return If a value is present, the result of calling {@code mapper} on it, if empty, an empty Result,
+     * otherwise a Result rejected with this LongResult's Throwable.
+     */
+    <OUT> Result<OUT> mapToObj(LongFunction<? extends OUT> mapper);
+
+    /**
+     * Converts this LongResult to a {@code Result<Long>}, boxing its value if present.
+     */
+    Result<Long> toResult();
+
+    /**
+     * Converts this LongResult to an {@link OptionalLong}.
+     * Does not distinguish between a rejected and an empty LongResult. In either case, returns an empty OptionalLong.
+     */
+    OptionalLong toOptional();
+
+    /**
+     * If a value is present, feed it to the supplied {@link LongConsumer}, otherwise, do nothing.
+     * Chainable.
+     */
+    LongResult ifPresent(LongConsumer consumer);
+
+    /**
+     * If this LongResult is rejected, feed the included {@link Throwable} to the supplied {@link Consumer},
+     * otherwise, do nothing.
+     * Chainable.
+     */
+    LongResult ifRejected(Consumer<? super Throwable> rejector);
+}
@@ -0,0 +1,127 @@
+package io.github.mooninaut.result;
+
+import java.util.stream.Collector;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/*
+ * LongSplitStream.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * The {@code long} counterpart of {@link SplitStream}: a {@link LongStream} of present values and a Stream of
+ * Throwables, built from {@link LongResult}s without boxing any value.
+ */
+public class LongSplitStream {
+    private final LongStream valueStream;
+    private final Stream<Throwable> exceptionStream;
+
+    LongSplitStream(LongChunkedBuffer valueBuffer, ChunkedBuffer<Throwable> throwableBuffer) {
+        valueStream = valueBuffer.stream();
+        exceptionStream = throwableBuffer.stream();
+    }
+
+    LongSplitStream(LongStream valueStream, Stream<Throwable> throwableStream) {
+        this.valueStream = valueStream;
+        this.exceptionStream = throwableStream;
+    }
+
+    public LongStream getValueStream() {
+        return valueStream;
+    }
+
+    public Stream<Throwable> getExceptionStream() {
+        return exceptionStream;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * A Collector that splits a Stream of LongResults, in encounter order, into a LongSplitStream.
+     * Empty LongResults have no value, and are dropped.
+     */
+    public static Collector<LongResult, ?, LongSplitStream> collector() {
+        return Collector.of(Builder::new, Builder::add, Builder::append, Builder::build);
+    }
+
+    /**
+     * Accumulates {@code long} values and Throwables in encounter order. Builders are combined with
+     * {@link #append(Builder)} in constant time, without copying either side.
+     * A Builder may only be built once, and may not be modified afterwards.
+     */
+    public static class Builder {
+        private final LongChunkedBuffer valueBuffer;
+        private final ChunkedBuffer<Throwable> exceptionBuffer;
+        private boolean built;
+
+        public Builder() {
+            valueBuffer = new LongChunkedBuffer();
+            exceptionBuffer = new ChunkedBuffer<>();
+        }
+
+        public LongSplitStream build() {
+            checkNotBuilt();
+            built = true;
+            return new LongSplitStream(valueBuffer, exceptionBuffer);
+        }
+
+        /**
+         * Moves the contents of {@code other} to the end of this Builder in constant time.
+         * {@code other} may not be used afterwards.
+         */
+        public Builder append(Builder other) {
+            if (other == this) {
+                throw new IllegalArgumentException("Cannot append a LongSplitStream.Builder to itself");
+            }
+            checkNotBuilt();
+            other.checkNotBuilt();
+            other.built = true;
+            valueBuffer.append(other.valueBuffer);
+            exceptionBuffer.append(other.exceptionBuffer);
+            return this;
+        }
+
+        public Builder addValue(long value) {
+            checkNotBuilt();
+            valueBuffer.add(value);
+            return this;
+        }
+
+        public Builder addException(Throwable error) {
+            checkNotBuilt();
+            exceptionBuffer.add(error);
+            return this;
+        }
+
+        public Builder add(LongResult result) {
+            checkNotBuilt();
+            if (result.isPresent()) {
+                valueBuffer.add(result.get());
+            } else if (result.isRejected()) {
+                exceptionBuffer.add(result.getException());
+            }
+            return this;
+        }
+
+        private void checkNotBuilt() {
+            if (built) {
+                throw new IllegalStateException("LongSplitStream.Builder has already been built");
+            }
+        }
+    }
+}
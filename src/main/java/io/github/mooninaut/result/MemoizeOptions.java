@@ -0,0 +1,117 @@
+package io.github.mooninaut.result;
+
+import java.time.Duration;
+
+/*
+ * MemoizeOptions.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Options for {@link ExceptionalFunctionWrapper#memoizing(ExceptionalFunction, MemoizeOptions)}.
+ * Immutable; create with {@link #builder()}, or use {@link #defaults()}.
+ */
+public final class MemoizeOptions {
+    static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private static final MemoizeOptions DEFAULTS = builder().build();
+
+    private final long maximumSize;
+    private final Duration expireAfterWrite;
+    private final Duration expireRejectedAfterWrite;
+
+    private MemoizeOptions(Builder builder) {
+        this.maximumSize = builder.maximumSize;
+        this.expireAfterWrite = builder.expireAfterWrite;
+        this.expireRejectedAfterWrite = builder.expireRejectedAfterWrite;
+    }
+
+    /**
+     * Up to {@value #DEFAULT_MAXIMUM_SIZE} entries, accepted Results kept until evicted, rejected Results not kept.
+     */
+    public static MemoizeOptions defaults() {
+        return DEFAULTS;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The maximum number of cached Results.
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * How long an accepted Result is kept, or {@code null} to keep it until evicted.
+     */
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    /**
+     * How long a rejected Result is kept, or {@code null} to keep it until evicted. Zero means never cached,
+     * though concurrent callers waiting for the same load still share it.
+     */
+    public Duration getExpireRejectedAfterWrite() {
+        return expireRejectedAfterWrite;
+    }
+
+    public static class Builder {
+        private long maximumSize = DEFAULT_MAXIMUM_SIZE;
+        private Duration expireAfterWrite;
+        private Duration expireRejectedAfterWrite = Duration.ZERO;
+
+        /**
+         * Limits the number of cached Results; beyond it, the least recently used are evicted.
+         */
+        public Builder maximumSize(long maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Recomputes an accepted Result once {@code ttl} has passed since it was computed.
+         */
+        public Builder expireAfterWrite(Duration ttl) {
+            if (ttl.isNegative() || ttl.isZero()) {
+                throw new IllegalArgumentException("ttl must be positive: " + ttl);
+            }
+            this.expireAfterWrite = ttl;
+            return this;
+        }
+
+        /**
+         * Caches rejected Results (negative caching) for {@code ttl}, or, if {@code ttl} is null, until evicted.
+         * By default rejected Results are not cached.
+         */
+        public Builder expireRejectedAfterWrite(Duration ttl) {
+            if (ttl != null && ttl.isNegative()) {
+                throw new IllegalArgumentException("ttl must not be negative: " + ttl);
+            }
+            this.expireRejectedAfterWrite = ttl;
+            return this;
+        }
+
+        public MemoizeOptions build() {
+            return new MemoizeOptions(this);
+        }
+    }
+}
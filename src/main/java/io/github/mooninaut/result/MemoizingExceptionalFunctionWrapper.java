@@ -0,0 +1,285 @@
+package io.github.mooninaut.result;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * MemoizingExceptionalFunctionWrapper.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * An {@link ExceptionalFunctionWrapper} that caches the Result for each input, for pure but expensive functions.
+ * Created by {@link ExceptionalFunctionWrapper#memoizing(ExceptionalFunction, MemoizeOptions)}.
+ * <p>
+ * The cache is split into segments by the input's hash code, each a least-recently-used map under its own lock;
+ * the locks are held only to look up or insert an entry, never while the function runs. Concurrent calls for an
+ * input that is still being computed wait for that computation instead of starting their own, so however many
+ * threads ask at once, the function runs once per input.
+ * <p>
+ * As with {@link ExceptionalFunctionWrapper#wrap}, checked exceptions are captured in rejected Results and
+ * unchecked ones are rethrown, to every caller waiting on that computation. Unchecked exceptions are never cached.
+ * Inputs must have consistent {@code equals} and {@code hashCode}; null is allowed.
+ */
+public class MemoizingExceptionalFunctionWrapper<IN, OUT> implements
+        ExceptionalFunctionWrapper<IN, OUT> {
+    private static final int ENTRIES_PER_SEGMENT = 16;
+
+    ////// Fields //////
+    private final ExceptionalFunction<? super IN, ? extends OUT> exceptionalFunction;
+    private final ExceptionalFunctionWrapperImpl<IN, OUT> wrapper;
+    private final long acceptedTtlNanos;
+    private final long rejectedTtlNanos;
+    private final Segment<IN, OUT>[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    MemoizingExceptionalFunctionWrapper(ExceptionalFunction<? super IN, ? extends OUT> exceptionalFunction,
+                                        MemoizeOptions options) {
+        this.exceptionalFunction = Objects.requireNonNull(exceptionalFunction);
+        this.wrapper = new ExceptionalFunctionWrapperImpl<>(exceptionalFunction);
+        this.acceptedTtlNanos = options.getExpireAfterWrite() == null ? -1 : options.getExpireAfterWrite().toNanos();
+        this.rejectedTtlNanos = options.getExpireRejectedAfterWrite() == null
+                ? -1 : options.getExpireRejectedAfterWrite().toNanos();
+        long maximumSize = options.getMaximumSize();
+        int wanted = (int) Math.min(Runtime.getRuntime().availableProcessors() * 4L,
+                Math.max(1, maximumSize / ENTRIES_PER_SEGMENT));
+        int count = Integer.highestOneBit(wanted);
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            long capacity = maximumSize / count + (i < maximumSize % count ? 1 : 0);
+            segments[i] = new Segment<>(capacity, evictions);
+        }
+    }
+
+    public ExceptionalFunction<? super IN, ? extends OUT> getExceptionalFunction() {
+        return exceptionalFunction;
+    }
+
+    @Override
+    public Result<OUT> apply(IN in) {
+        Segment<IN, OUT> segment = segmentFor(in);
+        long now = System.nanoTime();
+        Slot<OUT> slot;
+        boolean owner = false;
+        synchronized (segment) {
+            slot = segment.get(in);
+            if (slot != null && slot.isExpired(now)) {
+                segment.remove(in);
+                slot = null;
+            }
+            if (slot == null) {
+                slot = new Slot<>();
+                segment.put(in, slot);
+                owner = true;
+            }
+        }
+        if (owner) {
+            misses.increment();
+            return load(segment, in, slot);
+        }
+        if (slot.future.isDone()) {
+            hits.increment();
+        } else {
+            waits.increment();
+        }
+        try {
+            return slot.future.join();
+        } catch (RuntimeException wrapped) {
+            // Completed exceptionally only with the unchecked exception thrown by the owner's call.
+            Throwable cause = AsyncResult.unwrap(wrapped);
+            Exceptions.throwIfUnchecked(cause);
+            throw wrapped;
+        }
+    }
+
+    /**
+     * Discards the cached Result for {@code in}, if any.
+     */
+    public void invalidate(IN in) {
+        Segment<IN, OUT> segment = segmentFor(in);
+        synchronized (segment) {
+            segment.remove(in);
+        }
+    }
+
+    /**
+     * Discards every cached Result.
+     */
+    public void invalidateAll() {
+        for (Segment<IN, OUT> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * The number of cached Results, including any still being computed and any expired but not yet removed.
+     */
+    public long size() {
+        long size = 0;
+        for (Segment<IN, OUT> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), waits.sum(), evictions.sum());
+    }
+
+    ////// Private methods //////
+
+    private Segment<IN, OUT> segmentFor(IN in) {
+        int hash = Objects.hashCode(in);
+        hash ^= hash >>> 16;
+        return segments[hash & (segments.length - 1)];
+    }
+
+    private Result<OUT> load(Segment<IN, OUT> segment, IN in, Slot<OUT> slot) {
+        Result<OUT> result;
+        try {
+            result = wrapper.apply(in);
+        } catch (RuntimeException | Error err) {
+            discard(segment, in, slot);
+            slot.future.completeExceptionally(err);
+            throw err;
+        }
+        long ttl = result.isRejected() ? rejectedTtlNanos : acceptedTtlNanos;
+        if (ttl == 0) {
+            discard(segment, in, slot);
+        } else if (ttl > 0) {
+            slot.expiresAtNanos = System.nanoTime() + ttl;
+            slot.expiring = true;
+        }
+        slot.future.complete(result);
+        return result;
+    }
+
+    private void discard(Segment<IN, OUT> segment, IN in, Slot<OUT> slot) {
+        synchronized (segment) {
+            if (segment.get(in) == slot) {
+                segment.remove(in);
+            }
+        }
+    }
+
+    /**
+     * One cached input. The future completes once the owner's call returns; until then, other callers wait on it.
+     */
+    private static final class Slot<OUT> {
+        final CompletableFuture<Result<OUT>> future = new CompletableFuture<>();
+        volatile long expiresAtNanos;
+        volatile boolean expiring;
+
+        boolean isExpired(long nowNanos) {
+            return expiring && nowNanos - expiresAtNanos >= 0;
+        }
+    }
+
+    /**
+     * An access-ordered LinkedHashMap that evicts its least recently used entry when over capacity.
+     * Guarded by its own monitor.
+     */
+    private static final class Segment<IN, OUT> extends LinkedHashMap<IN, Slot<OUT>> {
+        private static final long serialVersionUID = 1L;
+
+        private final long capacity;
+        private final transient LongAdder evictions;
+
+        Segment(long capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<IN, Slot<OUT>> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Counts of cache activity since the wrapper was created.
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long waits;
+        private final long evictions;
+
+        private Stats(long hits, long misses, long waits, long evictions) {
+            this.hits = hits;
+            this.misses = misses;
+            this.waits = waits;
+            this.evictions = evictions;
+        }
+
+        /**
+         * Calls answered from a completed cached Result.
+         */
+        public long hitCount() {
+            return hits;
+        }
+
+        /**
+         * Calls that ran the function.
+         */
+        public long missCount() {
+            return misses;
+        }
+
+        /**
+         * Calls that waited for another call's computation of the same input instead of running the function.
+         */
+        public long waitCount() {
+            return waits;
+        }
+
+        /**
+         * Entries removed to stay within the maximum size.
+         */
+        public long evictionCount() {
+            return evictions;
+        }
+
+        /**
+         * The fraction of calls that did not run the function, or 0 if there were none.
+         */
+        public double hitRate() {
+            long total = hits + misses + waits;
+            return total == 0 ? 0 : (double) (hits + waits) / total;
+        }
+
+        @Override
+        public String toString() {
+            return "MemoizingExceptionalFunctionWrapper.Stats{hits=" + hits + ", misses=" + misses
+                    + ", waits=" + waits + ", evictions=" + evictions + '}';
+        }
+    }
+}
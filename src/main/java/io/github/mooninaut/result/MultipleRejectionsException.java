@@ -0,0 +1,45 @@
+package io.github.mooninaut.result;
+
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * MultipleRejectionsException.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Collects the Throwables of several rejected Results, e.g. from
+ * {@link Results#sequence(java.util.stream.Stream, int)}. Like {@link StacklessException}, it does not capture a
+ * stack trace of its own; the collected Throwables keep theirs.
+ */
+public class MultipleRejectionsException extends Exception {
+    private static final long serialVersionUID = 1L;
+
+    private final List<Throwable> rejections;
+
+    public MultipleRejectionsException(List<Throwable> rejections) {
+        super(rejections.size() + " rejected Result(s), first: " + (rejections.isEmpty() ? null : rejections.get(0)),
+                rejections.isEmpty() ? null : rejections.get(0), false, false);
+        this.rejections = Collections.unmodifiableList(rejections);
+    }
+
+    /**
+     * The collected Throwables, in encounter order.
+     */
+    public List<Throwable> getRejections() {
+        return rejections;
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.mooninaut.result;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * OutcomeCounters.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * An in-memory {@link ResultInstrumentation} counting accepted, empty and rejected Results per call-site tag,
+ * and rejected Results per exception class. Counters are {@link LongAdder}s, so concurrent producers do not
+ * contend on a single cache line. Take a consistent-enough view at any time with {@link #snapshot()}.
+ */
+public final class OutcomeCounters implements ResultInstrumentation {
+
+    ////// Fields //////
+    private final ConcurrentHashMap<String, TagCounters> tags = new ConcurrentHashMap<>();
+
+    ////// Public methods //////
+    @Override
+    public void onAccepted(String tag) {
+        counters(tag).accepted.increment();
+    }
+
+    @Override
+    public void onEmpty(String tag) {
+        counters(tag).empty.increment();
+    }
+
+    @Override
+    public void onRejected(String tag, Throwable throwable) {
+        counters(tag).rejected(throwable.getClass()).increment();
+    }
+
+    /**
+     * Copies the current counts. Counts updated concurrently with the copy may or may not be included.
+     */
+    public Snapshot snapshot() {
+        Map<String, TagSnapshot> copy = new HashMap<>();
+        tags.forEach((tag, counters) -> copy.put(tag, counters.snapshot()));
+        return new Snapshot(copy);
+    }
+
+    /**
+     * Discards all counts.
+     */
+    public void reset() {
+        tags.clear();
+    }
+
+    ////// Private methods //////
+    private TagCounters counters(String tag) {
+        TagCounters counters = tags.get(tag);
+        return counters != null ? counters : tags.computeIfAbsent(tag, ignored -> new TagCounters());
+    }
+
+    private static final class TagCounters {
+        private final LongAdder accepted = new LongAdder();
+        private final LongAdder empty = new LongAdder();
+        private final ConcurrentHashMap<Class<? extends Throwable>, LongAdder> rejected = new ConcurrentHashMap<>();
+
+        LongAdder rejected(Class<? extends Throwable> type) {
+            LongAdder counter = rejected.get(type);
+            return counter != null ? counter : rejected.computeIfAbsent(type, ignored -> new LongAdder());
+        }
+
+        TagSnapshot snapshot() {
+            Map<Class<? extends Throwable>, Long> byType = new HashMap<>();
+            rejected.forEach((type, counter) -> byType.put(type, counter.sum()));
+            return new TagSnapshot(accepted.sum(), empty.sum(), byType);
+        }
+    }
+
+    private static final class TagSnapshot {
+        private final long accepted;
+        private final long empty;
+        private final Map<Class<? extends Throwable>, Long> rejected;
+
+        TagSnapshot(long accepted, long empty, Map<Class<? extends Throwable>, Long> rejected) {
+            this.accepted = accepted;
+            this.empty = empty;
+            this.rejected = Collections.unmodifiableMap(rejected);
+        }
+    }
+
+    /**
+     * An immutable copy of the counts in an {@link OutcomeCounters}.
+     */
+    public static final class Snapshot {
+        private static final TagSnapshot NONE = new TagSnapshot(0, 0, Collections.emptyMap());
+
+        private final Map<String, TagSnapshot> tags;
+
+        private Snapshot(Map<String, TagSnapshot> tags) {
+            this.tags = tags;
+        }
+
+        /**
+         * Every tag with at least one recorded outcome.
+         */
+        public Set<String> tags() {
+            return Collections.unmodifiableSet(tags.keySet());
+        }
+
+        public long accepted(String tag) {
+            return tag(tag).accepted;
+        }
+
+        public long empty(String tag) {
+            return tag(tag).empty;
+        }
+
+        public long rejected(String tag) {
+            return tag(tag).rejected.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        /**
+         * Rejections recorded under {@code tag}, by the exact class of their Throwable.
+         */
+        public Map<Class<? extends Throwable>, Long> rejectionsByType(String tag) {
+            return tag(tag).rejected;
+        }
+
+        /**
+         * Rejections recorded under every tag, by the exact class of their Throwable.
+         */
+        public Map<Class<? extends Throwable>, Long> rejectionsByType() {
+            Map<Class<? extends Throwable>, Long> total = new HashMap<>();
+            tags.values().forEach(snapshot -> snapshot.rejected.forEach((type, count) -> total.merge(type, count, Long::sum)));
+            return Collections.unmodifiableMap(total);
+        }
+
+        private TagSnapshot tag(String tag) {
+            return tags.getOrDefault(Objects.requireNonNull(tag), NONE);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder("OutcomeCounters.Snapshot{");
+            tags.forEach((tag, snapshot) -> builder.append('\n').append("  '").append(tag)
+                    .append("': accepted=").append(snapshot.accepted)
+                    .append(", empty=").append(snapshot.empty)
+                    .append(", rejected=").append(snapshot.rejected));
+            return builder.append("\n}").toString();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package io.github.mooninaut.result;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collector;
+
+/*
+ * OutcomeSummary.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * How many Results were accepted, empty and rejected, how many rejections there were of each exception class, and
+ * the first few rejections' Throwables as exemplars. Produced in one pass by {@link Results#summarizing()}, without
+ * retaining any value, in memory proportional to the number of distinct exception classes.
+ * Immutable.
+ */
+public final class OutcomeSummary {
+    /**
+     * The number of exemplar Throwables kept by {@link Results#summarizing()}.
+     */
+    public static final int DEFAULT_EXEMPLARS = 8;
+
+    private final long present;
+    private final long empty;
+    private final long rejected;
+    private final Map<Class<? extends Throwable>, Long> rejectionsByType;
+    private final List<Throwable> exemplars;
+
+    private OutcomeSummary(long present,
+                           long empty,
+                           long rejected,
+                           Map<Class<? extends Throwable>, Long> rejectionsByType,
+                           List<Throwable> exemplars) {
+        this.present = present;
+        this.empty = empty;
+        this.rejected = rejected;
+        this.rejectionsByType = Collections.unmodifiableMap(rejectionsByType);
+        this.exemplars = Collections.unmodifiableList(exemplars);
+    }
+
+    static Collector<Result<?>, Accumulator, OutcomeSummary> collector(int maxExemplars) {
+        if (maxExemplars < 0) {
+            throw new IllegalArgumentException("maxExemplars must not be negative: " + maxExemplars);
+        }
+        return Collector.of(
+                () -> new Accumulator(maxExemplars),
+                Accumulator::add,
+                Accumulator::combine,
+                Accumulator::finish);
+    }
+
+    /**
+     * The number of accepted Results, including empty ones.
+     */
+    public long getAccepted() {
+        return present + empty;
+    }
+
+    /**
+     * The number of accepted Results with a value.
+     */
+    public long getPresent() {
+        return present;
+    }
+
+    public long getEmpty() {
+        return empty;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getTotal() {
+        return present + empty + rejected;
+    }
+
+    /**
+     * The number of rejections by the exact class of their Throwable, in order of each class's first appearance.
+     */
+    public Map<Class<? extends Throwable>, Long> getRejectionsByType() {
+        return rejectionsByType;
+    }
+
+    /**
+     * The Throwables of the first rejections, in encounter order, up to the requested number.
+     */
+    public List<Throwable> getExemplars() {
+        return exemplars;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("OutcomeSummary{present=").append(present)
+                .append(", empty=").append(empty)
+                .append(", rejected=").append(rejected);
+        rejectionsByType.forEach((type, count) -> builder.append(", ").append(type.getName()).append('=').append(count));
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Mutable state of one summarizing collection. Not thread-safe; parallel streams combine one per split.
+     */
+    static final class Accumulator {
+        private final int maxExemplars;
+        private long present;
+        private long empty;
+        private long rejected;
+        private final Map<Class<? extends Throwable>, long[]> byType = new LinkedHashMap<>();
+        private final List<Throwable> exemplars = new ArrayList<>();
+        // Rejections tend to come in runs of one type; remembering the last one skips most map lookups.
+        private Class<?> lastType;
+        private long[] lastCount;
+
+        Accumulator(int maxExemplars) {
+            this.maxExemplars = maxExemplars;
+        }
+
+        void add(Result<?> result) {
+            if (result.isPresent()) {
+                present++;
+            } else if (result.isEmpty()) {
+                empty++;
+            } else {
+                rejected++;
+                Throwable throwable = result.getException();
+                Class<? extends Throwable> type = throwable.getClass();
+                if (type != lastType) {
+                    lastType = type;
+                    lastCount = byType.computeIfAbsent(type, ignored -> new long[1]);
+                }
+                lastCount[0]++;
+                if (exemplars.size() < maxExemplars) {
+                    exemplars.add(throwable);
+                }
+            }
+        }
+
+        Accumulator combine(Accumulator other) {
+            present += other.present;
+            empty += other.empty;
+            rejected += other.rejected;
+            other.byType.forEach((type, count) -> byType.computeIfAbsent(type, ignored -> new long[1])[0] += count[0]);
+            for (Throwable throwable : other.exemplars) {
+                if (exemplars.size() >= maxExemplars) {
+                    break;
+                }
+                exemplars.add(throwable);
+            }
+            return this;
+        }
+
+        OutcomeSummary finish() {
+            Map<Class<? extends Throwable>, Long> counts = new LinkedHashMap<>();
+            byType.forEach((type, count) -> counts.put(type, count[0]));
+            return new OutcomeSummary(present, empty, rejected, counts, new ArrayList<>(exemplars));
+        }
+    }
+}
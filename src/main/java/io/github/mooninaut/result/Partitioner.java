@@ -0,0 +1,174 @@
+package io.github.mooninaut.result;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+
+/*
+ * Partitioner.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Splits a random-access list of Results into a {@link SplitStream} in parallel, in two passes over fixed index
+ * ranges ("leaves") on a ForkJoinPool:
+ * <ol>
+ * <li>each leaf records the indices of its rejected Results in its own int array;</li>
+ * <li>after a prefix sum over the leaves' counts gives each leaf its offsets, each leaf copies its values and
+ * Throwables straight into their final positions in two exactly-sized arrays.</li>
+ * </ol>
+ * So there is no merging of partial buffers, no boxing of indices, and each element is copied once.
+ */
+final class Partitioner {
+    private static final int TASKS_PER_THREAD = 4;
+
+    private Partitioner() { }
+
+    @SuppressWarnings("unchecked")
+    static <VAL> SplitStream<VAL> partition(List<? extends Result<VAL>> results, BulkOptions options) {
+        List<? extends Result<VAL>> list = results instanceof RandomAccess ? results : new ArrayList<>(results);
+        int size = list.size();
+        ForkJoinPool pool = options.getPool() == null ? ForkJoinPool.commonPool() : options.getPool();
+        int leafSize = options.getThreshold() > 0
+                ? options.getThreshold()
+                : Math.max(1024, size / (pool.getParallelism() * TASKS_PER_THREAD));
+        Leaf[] leaves = new Leaf[(int) (((long) size + leafSize - 1) / leafSize)];
+        for (int i = 0; i < leaves.length; i++) {
+            leaves[i] = new Leaf(i * leafSize, (int) Math.min(size, (long) (i + 1) * leafSize));
+        }
+
+        Batch<VAL> batch = new Batch<>(list, leaves);
+        pool.invoke(new PassTask<>(batch, 0, leaves.length));
+
+        int values = 0;
+        int exceptions = 0;
+        for (Leaf leaf : leaves) {
+            leaf.valueOffset = values;
+            leaf.exceptionOffset = exceptions;
+            values += (leaf.to - leaf.from) - leaf.rejectedCount;
+            exceptions += leaf.rejectedCount;
+        }
+        batch.values = new Object[values];
+        batch.exceptions = new Throwable[exceptions];
+        batch.fill = true;
+        pool.invoke(new PassTask<>(batch, 0, leaves.length));
+
+        return new SplitStream<>((Stream<VAL>) Arrays.stream(batch.values), Arrays.stream(batch.exceptions));
+    }
+
+    /**
+     * One index range, with the indices of its rejected Results and, after the first pass, its output offsets.
+     */
+    private static final class Leaf {
+        final int from;
+        final int to;
+        int[] rejected = new int[16];
+        int rejectedCount;
+        int valueOffset;
+        int exceptionOffset;
+
+        Leaf(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        void addRejected(int index) {
+            if (rejectedCount == rejected.length) {
+                rejected = Arrays.copyOf(rejected, Math.min(to - from, rejectedCount * 2));
+            }
+            rejected[rejectedCount++] = index;
+        }
+    }
+
+    /**
+     * State shared by every task of one partition. {@code fill} and the output arrays are written before the
+     * second pass is submitted, which publishes them to its tasks.
+     */
+    private static final class Batch<VAL> {
+        final List<? extends Result<VAL>> results;
+        final Leaf[] leaves;
+        boolean fill;
+        Object[] values;
+        Throwable[] exceptions;
+
+        Batch(List<? extends Result<VAL>> results, Leaf[] leaves) {
+            this.results = results;
+            this.leaves = leaves;
+        }
+    }
+
+    private static final class PassTask<VAL> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Batch<VAL> batch;
+        private final int fromLeaf;
+        private final int toLeaf;
+
+        PassTask(Batch<VAL> batch, int fromLeaf, int toLeaf) {
+            this.batch = batch;
+            this.fromLeaf = fromLeaf;
+            this.toLeaf = toLeaf;
+        }
+
+        @Override
+        protected void compute() {
+            if (toLeaf - fromLeaf > 1) {
+                int middle = (fromLeaf + toLeaf) >>> 1;
+                invokeAll(new PassTask<>(batch, fromLeaf, middle), new PassTask<>(batch, middle, toLeaf));
+                return;
+            }
+            if (toLeaf == fromLeaf) {
+                return;
+            }
+            Leaf leaf = batch.leaves[fromLeaf];
+            if (batch.fill) {
+                fill(leaf);
+            } else {
+                classify(leaf);
+            }
+        }
+
+        private void classify(Leaf leaf) {
+            List<? extends Result<VAL>> results = batch.results;
+            for (int i = leaf.from; i < leaf.to; i++) {
+                if (results.get(i).isRejected()) {
+                    leaf.addRejected(i);
+                }
+            }
+        }
+
+        private void fill(Leaf leaf) {
+            List<? extends Result<VAL>> results = batch.results;
+            Object[] values = batch.values;
+            Throwable[] exceptions = batch.exceptions;
+            int value = leaf.valueOffset;
+            int exception = leaf.exceptionOffset;
+            int next = 0;
+            int nextRejected = leaf.rejectedCount > 0 ? leaf.rejected[0] : -1;
+            for (int i = leaf.from; i < leaf.to; i++) {
+                if (i == nextRejected) {
+                    exceptions[exception++] = results.get(i).getException();
+                    nextRejected = ++next < leaf.rejectedCount ? leaf.rejected[next] : -1;
+                } else {
+                    values[value++] = results.get(i).get();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.mooninaut.result;
+
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+/*
+ * RejectedIntResult.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Delegates to a rejected {@link Result}, so conversion in either direction never allocates a Throwable
+ * and a lazily rejected Result stays lazy.
+ */
+final class RejectedIntResult implements IntResult {
+    ////// Fields //////
+    private final Result<?> rejected;
+
+    ////// Constructor ///////
+    RejectedIntResult(Result<?> rejected) {
+        this.rejected = rejected;
+    }
+
+    ////// Public methods ///////
+    @Override
+    public boolean isAccepted() {
+        return false;
+    }
+
+    @Override
+    public boolean isPresent() {
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public boolean isRejected() {
+        return true;
+    }
+
+    @Override
+    public int get() {
+        throw new IllegalStateException("Cannot get value from rejected IntResult");
+    }
+
+    @Override
+    public Throwable getException() {
+        return rejected.getException();
+    }
+
+    @Override
+    public int orElse(int other) {
+        return other;
+    }
+
+    @Override
+    public int orElseThrow() throws Throwable {
+        throw rejected.getException();
+    }
+
+    @Override
+    public int orElseThrowRuntime() {
+        throw new RuntimeException(rejected.getException());
+    }
+
+    @Override
+    public void throwIfRejected() throws Throwable {
+        throw rejected.getException();
+    }
+
+    @Override
+    public void throwRuntimeIfRejected() throws RuntimeException {
+        throw new RuntimeException(rejected.getException());
+    }
+
+    @Override
+    public IntResult exMap(ExceptionalIntUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public IntResult map(IntUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public <OUT> Result<OUT> exMapToObj(ExceptionalIntFunction<? extends OUT> mapper) {
+        return rejected.uncheckedCast();
+    }
+
+    @Override
+    public <OUT> Result<OUT> mapToObj(IntFunction<? extends OUT> mapper) {
+        return rejected.uncheckedCast();
+    }
+
+    @Override
+    public Result<Integer> toResult() {
+        return rejected.uncheckedCast();
+    }
+
+    @Override
+    public OptionalInt toOptional() {
+        return OptionalInt.empty();
+    }
+
+    @Override
+    public IntResult ifPresent(IntConsumer consumer) {
+        return this;
+    }
+
+    @Override
+    public IntResult ifRejected(Consumer<? super Throwable> rejector) {
+        rejector.accept(rejected.getException());
+        return this;
+    }
+
+    ////// Object overrides //////
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RejectedIntResult otherResult = (RejectedIntResult) o;
+        return rejected.equals(otherResult.rejected);
+    }
+
+    @Override
+    public int hashCode() {
+        return rejected.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "IntResult: rejected, " + rejected.getException();
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.mooninaut.result;
+
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongUnaryOperator;
+
+/*
+ * RejectedLongResult.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Delegates to a rejected {@link Result}, so conversion in either direction never allocates a Throwable
+ * and a lazily rejected Result stays lazy.
+ */
+final class RejectedLongResult implements LongResult {
+    ////// Fields //////
+    private final Result<?> rejected;
+
+    ////// Constructor ///////
+    RejectedLongResult(Result<?> rejected) {
+        this.rejected = rejected;
+    }
+
+    ////// Public methods ///////
+    @Override
+    public boolean isAccepted() {
+        return false;
+    }
+
+    @Override
+    public boolean isPresent() {
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public boolean isRejected() {
+        return true;
+    }
+
+    @Override
+    public long get() {
+        throw new IllegalStateException("Cannot get value from rejected LongResult");
+    }
+
+    @Override
+    public Throwable getException() {
+        return rejected.getException();
+    }
+
+    @Override
+    public long orElse(long other) {
+        return other;
+    }
+
+    @Override
+    public long orElseThrow() throws Throwable {
+        throw rejected.getException();
+    }
+
+    @Override
+    public long orElseThrowRuntime() {
+        throw new RuntimeException(rejected.getException());
+    }
+
+    @Override
+    public void throwIfRejected() throws Throwable {
+        throw rejected.getException();
+    }
+
+    @Override
+    public void throwRuntimeIfRejected() throws RuntimeException {
+        throw new RuntimeException(rejected.getException());
+    }
+
+    @Override
+    public LongResult exMap(ExceptionalLongUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public LongResult map(LongUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public <OUT> Result<OUT> exMapToObj(ExceptionalLongFunction<? extends OUT> mapper) {
+        return rejected.uncheckedCast();
+    }
+
+    @Override
+    public <OUT> Result<OUT> mapToObj(LongFunction<? extends OUT> mapper) {
+        return rejected.uncheckedCast();
+    }
+
+    @Override
+    public Result<Long> toResult() {
+        return rejected.uncheckedCast();
+    }
+
+    @Override
+    public OptionalLong toOptional() {
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public LongResult ifPresent(LongConsumer consumer) {
+        return this;
+    }
+
+    @Override
+    public LongResult ifRejected(Consumer<? super Throwable> rejector) {
+        rejector.accept(rejected.getException());
+        return this;
+    }
+
+    ////// Object overrides //////
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RejectedLongResult otherResult = (RejectedLongResult) o;
+        return rejected.equals(otherResult.rejected);
+    }
+
+    @Override
+    public int hashCode() {
+        return rejected.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "LongResult: rejected, " + rejected.getException();
+    }
+}
@@ -4,6 +4,10 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.function.Supplier;
 
 /*
  * RejectedResult.java
@@ -25,11 +29,26 @@ import java.util.function.Function;
 final class RejectedResult<VAL> implements Result<VAL> {
     ////// Fields //////
     private final Throwable throwable;
+    private final LazyThrowable lazyThrowable;
 
-    ////// Constructor ///////
+    ////// Constructors ///////
 
     RejectedResult(Throwable throwable) {
         this.throwable = throwable;
+        this.lazyThrowable = null;
+    }
+
+    /**
+     * Creates a RejectedResult whose Throwable is not created until it is first requested.
+     * {@code throwableSupplier} is called at most once.
+     */
+    RejectedResult(Supplier<? extends Throwable> throwableSupplier) {
+        this.throwable = null;
+        this.lazyThrowable = new LazyThrowable(throwableSupplier);
+    }
+
+    private Throwable throwable() {
+        return throwable != null ? throwable : lazyThrowable.get();
     }
 
     ////// Public methods ///////
@@ -77,7 +96,7 @@ final class RejectedResult<VAL> implements Result<VAL> {
 
     @Override
     public Throwable getException() {
-        return throwable;
+        return throwable();
     }
 
     @Override
@@ -87,7 +106,7 @@ final class RejectedResult<VAL> implements Result<VAL> {
 
     @Override
     public VAL orElseThrow() throws Throwable {
-        throw throwable;
+        throw throwable();
     }
 
     @Override
@@ -111,6 +130,36 @@ final class RejectedResult<VAL> implements Result<VAL> {
         return (Result<OUT>) this;
     }
 
+    @Override
+    public IntResult exMapToInt(ExceptionalToIntFunction<? super VAL> mapper) {
+        return new RejectedIntResult(this);
+    }
+
+    @Override
+    public IntResult mapToInt(ToIntFunction<? super VAL> mapper) {
+        return new RejectedIntResult(this);
+    }
+
+    @Override
+    public LongResult exMapToLong(ExceptionalToLongFunction<? super VAL> mapper) {
+        return new RejectedLongResult(this);
+    }
+
+    @Override
+    public LongResult mapToLong(ToLongFunction<? super VAL> mapper) {
+        return new RejectedLongResult(this);
+    }
+
+    @Override
+    public DoubleResult exMapToDouble(ExceptionalToDoubleFunction<? super VAL> mapper) {
+        return new RejectedDoubleResult(this);
+    }
+
+    @Override
+    public DoubleResult mapToDouble(ToDoubleFunction<? super VAL> mapper) {
+        return new RejectedDoubleResult(this);
+    }
+
     @Override
     public Optional<VAL> toOptional() {
         return Optional.empty();
@@ -123,17 +172,17 @@ final class RejectedResult<VAL> implements Result<VAL> {
 
     @Override
     public VAL orElseThrowRuntime() {
-        throw new RuntimeException(throwable);
+        throw new RuntimeException(throwable());
     }
 
     @Override
     public void throwIfRejected() throws Throwable {
-        throw throwable;
+        throw throwable();
     }
 
     @Override
     public void throwRuntimeIfRejected() throws RuntimeException {
-        throw new RuntimeException(throwable);
+        throw new RuntimeException(throwable());
     }
 
     @Override
@@ -143,13 +192,13 @@ final class RejectedResult<VAL> implements Result<VAL> {
 
     @Override
     public Result<VAL> ifRejected(Consumer<? super Throwable> rejector) {
-        rejector.accept(throwable);
+        rejector.accept(throwable());
         return this;
     }
 
     @Override
     public Result<VAL> then(Consumer<? super VAL> consumer, Consumer<? super Throwable> rejector) {
-        rejector.accept(throwable);
+        rejector.accept(throwable());
         return this;
     }
     @Override
@@ -159,15 +208,15 @@ final class RejectedResult<VAL> implements Result<VAL> {
     }
     @Override
     public Result<VAL> acceptOrElseThrow(Consumer<? super VAL> consumer) throws Throwable {
-        throw throwable;
+        throw throwable();
     }
     @Override
     public Result<VAL> acceptOrElseThrowRuntime(Consumer<? super VAL> consumer) {
-        throw new RuntimeException(throwable);
+        throw new RuntimeException(throwable());
     }
     @Override
     public Result<VAL> acceptOrPrintStacktrace(Consumer<? super VAL> consumer) {
-        throwable.printStackTrace();
+        throwable().printStackTrace();
         return this;
     }
 
@@ -177,20 +226,23 @@ final class RejectedResult<VAL> implements Result<VAL> {
         if (this == o) {
             return true;
         }
+        if (o instanceof LazyResult) {
+            return equals(LazyResult.unwrap(o));
+        }
         if (o == null || getClass() != o.getClass()) {
             return false;
         }
         RejectedResult<?> otherResult = (RejectedResult<?>) o;
-        return throwable == otherResult.throwable;
+        return throwable() == otherResult.throwable();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(throwable);
+        return Objects.hash(throwable());
     }
 
     @Override
     public String toString() {
-        return "Result: rejected, " + throwable;
+        return "Result: rejected, " + throwable();
     }
 }
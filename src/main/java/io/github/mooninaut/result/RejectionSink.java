@@ -0,0 +1,79 @@
+package io.github.mooninaut.result;
+
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/*
+ * RejectionSink.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Receives rejected Results as a stream is consumed, e.g. by {@link Results#valueStream(java.util.stream.Stream, RejectionSink)}.
+ * A sink receives the rejected Result itself rather than its Throwable, so a sink that only counts never forces a
+ * lazily rejected Result to create its Throwable.
+ * Sinks used with parallel streams must be thread-safe. All sinks returned by the static methods here are,
+ * provided the underlying Consumer is.
+ */
+@FunctionalInterface
+public interface RejectionSink {
+
+    /**
+     * Called once for each rejected Result, in encounter order for sequential streams.
+     */
+    void accept(Result<?> rejected);
+
+    /**
+     * A sink that feeds each rejected Result's Throwable to {@code consumer}.
+     */
+    static RejectionSink of(Consumer<? super Throwable> consumer) {
+        Objects.requireNonNull(consumer);
+        return rejected -> consumer.accept(rejected.getException());
+    }
+
+    /**
+     * A sink that only increments {@code counter}, and never retrieves any Throwable.
+     */
+    static RejectionSink counting(LongAdder counter) {
+        Objects.requireNonNull(counter);
+        return rejected -> counter.increment();
+    }
+
+    /**
+     * A sink that puts each rejected Result's Throwable on {@code queue}, waiting for space if the queue is bounded
+     * and full, so a slow consumer of the queue slows down the stream instead of exhausting memory.
+     * If interrupted while waiting, the interrupt status is restored and a RuntimeException is thrown.
+     */
+    static RejectionSink toQueue(BlockingQueue<? super Throwable> queue) {
+        Objects.requireNonNull(queue);
+        return rejected -> {
+            try {
+                queue.put(rejected.getException());
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(ie);
+            }
+        };
+    }
+
+    /**
+     * A sink that ignores every rejected Result.
+     */
+    static RejectionSink ignoring() {
+        return rejected -> { };
+    }
+}
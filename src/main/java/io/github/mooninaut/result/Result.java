@@ -4,6 +4,10 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /*
  * Result.java
@@ -33,21 +37,54 @@ public interface Result<VAL> {
      * Returns an empty Result. May or may not be a singleton.
      */
     static <VAL> Result<VAL> empty() {
-        return EmptyResult.getInstance();
+        return ResultLayout.empty();
     }
 
     /**
-     * Creates and returns an accepted Result containing a value, {@code val}, of type {@code <IN>}.
+     * Returns an accepted Result containing a value, {@code val}, of type {@code <IN>}.
+     * Booleans and small canonical boxed integers and characters are served from a shared cache rather than newly
+     * allocated, as by {@link Integer#valueOf(int)}, as are values of classes enabled in {@link AcceptedResultCache}.
      */
     static <VAL> Result<VAL> accept(VAL val) {
-        return val == null ? EmptyResult.getInstance() : new AcceptedResult<>(val);
+        if (val == null) {
+            return ResultLayout.empty();
+        }
+        Result<VAL> cached = null;
+        if (AcceptedResultCache.mayBeCached(val)) {
+            cached = AcceptedResultCache.get(val);
+        } else if (AcceptedResultCache.isInterning()) {
+            cached = AcceptedResultCache.intern(val);
+        }
+        return cached != null ? cached : ResultLayout.accepted(val);
     }
 
     /**
      * Creates and returns a rejected Result containing the provided Throwable, {@code err}.
      */
     static <VAL> Result<VAL> reject(Throwable err) {
-        return new RejectedResult<>(Objects.requireNonNull(err));
+        Instrumentation.rejected(ResultInstrumentation.UNTAGGED, Objects.requireNonNull(err));
+        return ResultLayout.rejected(err);
+    }
+
+    /**
+     * Creates and returns a rejected Result containing a {@link StacklessException} with the provided message.
+     * Much cheaper than {@link #reject(Throwable)} with a freshly created exception, because no stack trace is captured.
+     * To avoid even that allocation, reject with a preallocated {@code StacklessException} instead.
+     */
+    static <VAL> Result<VAL> rejectStackless(String message) {
+        return reject(new StacklessException(message));
+    }
+
+    /**
+     * Creates and returns a rejected Result whose Throwable is created by {@code errSupplier} only when it is first
+     * needed, e.g. by {@link #getException()} or {@link #orElseThrow()}. {@code errSupplier} is called at most once,
+     * and must not return null.
+     * Use when rejections are common and usually only counted, so most Throwables would never be looked at.
+     */
+    static <VAL> Result<VAL> rejectLazily(Supplier<? extends Throwable> errSupplier) {
+        Result<VAL> rejected = ResultLayout.rejectedLazily(Objects.requireNonNull(errSupplier));
+        Instrumentation.rejectedLazily(ResultInstrumentation.UNTAGGED, rejected::getException);
+        return rejected;
     }
 
     /**
@@ -58,20 +95,35 @@ public interface Result<VAL> {
     @SuppressWarnings("unchecked")
     static <VAL> Result<VAL> from(Object o) {
         if (o == null) {
-            return EmptyResult.getInstance();
+            return ResultLayout.empty();
         }
         if (o instanceof Throwable) {
-            return new RejectedResult<>((Throwable) o);
+            return ResultLayout.rejected((Throwable) o);
         }
-        return new AcceptedResult<>((VAL) o);
+        return accept((VAL) o);
     }
 
     static<VAL> Result<VAL> of(ExceptionalSupplier<VAL> es) {
+        VAL val;
         try {
-            return accept(es.get());
+            val = es.get();
         } catch (Throwable err) {
-            return reject(err);
+            Instrumentation.rejected(ResultInstrumentation.UNTAGGED, err);
+            return ResultLayout.rejected(err);
         }
+        Instrumentation.accepted(ResultInstrumentation.UNTAGGED, val);
+        return accept(val);
+    }
+
+    /**
+     * Like {@link #of(ExceptionalSupplier)}, but does not call {@code es} until the Result is first inspected, and
+     * then only once, even if inspected from several threads. {@code map}, {@code exMap} and {@code exMapChecked} on
+     * a lazy Result build lazy Results in turn, without calling anything, so work that is never inspected never
+     * runs.
+     */
+    static <VAL> Result<VAL> lazy(ExceptionalSupplier<VAL> es) {
+        Objects.requireNonNull(es);
+        return new LazyResult<>(() -> of(es));
     }
 
     /**
@@ -109,7 +161,7 @@ public interface Result<VAL> {
         try {
             return accept(outClass.cast(in));
         } catch (ClassCastException cce) {
-            return new RejectedResult<>(cce);
+            return ResultLayout.rejected(cce);
         }
     }
 
@@ -121,9 +173,9 @@ public interface Result<VAL> {
      */
     static <VAL> Result<VAL> requireNonNull(VAL val) {
         if (val == null) {
-            return new RejectedResult<>(new NullPointerException());
+            return ResultLayout.rejected(new NullPointerException());
         }
-        return new AcceptedResult<>(val);
+        return accept(val);
     }
 
     ////// Public methods ///////
@@ -229,6 +281,87 @@ public interface Result<VAL> {
     <OUT, F extends Function<? super VAL, ? extends OUT>>
     Result<OUT> map(F mapper);
 
+    /**
+     * Calls {@code mapper} on this Result's value, capturing the unboxed result or any checked exception
+     * in an {@link IntResult}.
+     * @return If this Result is accepted, the result of executing {@code mapper} on this Result's value,
+     * otherwise an IntResult rejected with this Result's Throwable.
+     */
+    default IntResult exMapToInt(ExceptionalToIntFunction<? super VAL> mapper) {
+        if (!isAccepted()) {
+            return new RejectedIntResult(this);
+        }
+        try {
+            return IntResult.accept(mapper.applyAsInt(get()));
+        } catch (Throwable ex) {
+            Exceptions.throwIfUnchecked(ex);
+            return IntResult.reject(ex);
+        }
+    }
+
+    /**
+     * Calls {@code mapper} on this Result's value, returning the unboxed result in an {@link IntResult}.
+     * @return If this Result is accepted, the result of executing {@code mapper} on this Result's value,
+     * otherwise an IntResult rejected with this Result's Throwable.
+     */
+    default IntResult mapToInt(ToIntFunction<? super VAL> mapper) {
+        return isAccepted() ? IntResult.accept(mapper.applyAsInt(get())) : new RejectedIntResult(this);
+    }
+
+    /**
+     * Calls {@code mapper} on this Result's value, capturing the unboxed result or any checked exception
+     * in a {@link LongResult}.
+     * @return If this Result is accepted, the result of executing {@code mapper} on this Result's value,
+     * otherwise a LongResult rejected with this Result's Throwable.
+     */
+    default LongResult exMapToLong(ExceptionalToLongFunction<? super VAL> mapper) {
+        if (!isAccepted()) {
+            return new RejectedLongResult(this);
+        }
+        try {
+            return LongResult.accept(mapper.applyAsLong(get()));
+        } catch (Throwable ex) {
+            Exceptions.throwIfUnchecked(ex);
+            return LongResult.reject(ex);
+        }
+    }
+
+    /**
+     * Calls {@code mapper} on this Result's value, returning the unboxed result in a {@link LongResult}.
+     * @return If this Result is accepted, the result of executing {@code mapper} on this Result's value,
+     * otherwise a LongResult rejected with this Result's Throwable.
+     */
+    default LongResult mapToLong(ToLongFunction<? super VAL> mapper) {
+        return isAccepted() ? LongResult.accept(mapper.applyAsLong(get())) : new RejectedLongResult(this);
+    }
+
+    /**
+     * Calls {@code mapper} on this Result's value, capturing the unboxed result or any checked exception
+     * in a {@link DoubleResult}.
+     * @return If this Result is accepted, the result of executing {@code mapper} on this Result's value,
+     * otherwise a DoubleResult rejected with this Result's Throwable.
+     */
+    default DoubleResult exMapToDouble(ExceptionalToDoubleFunction<? super VAL> mapper) {
+        if (!isAccepted()) {
+            return new RejectedDoubleResult(this);
+        }
+        try {
+            return DoubleResult.accept(mapper.applyAsDouble(get()));
+        } catch (Throwable ex) {
+            Exceptions.throwIfUnchecked(ex);
+            return DoubleResult.reject(ex);
+        }
+    }
+
+    /**
+     * Calls {@code mapper} on this Result's value, returning the unboxed result in a {@link DoubleResult}.
+     * @return If this Result is accepted, the result of executing {@code mapper} on this Result's value,
+     * otherwise a DoubleResult rejected with this Result's Throwable.
+     */
+    default DoubleResult mapToDouble(ToDoubleFunction<? super VAL> mapper) {
+        return isAccepted() ? DoubleResult.accept(mapper.applyAsDouble(get())) : new RejectedDoubleResult(this);
+    }
+
     /**
      * Converts the Result to an {@link Optional}.
      * @return the accepted value in an Optional, or, if rejected, an empty Optional.
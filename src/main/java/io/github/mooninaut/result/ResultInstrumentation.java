@@ -0,0 +1,85 @@
+package io.github.mooninaut.result;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/*
+ * ResultInstrumentation.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Service-provider interface for observing the outcome of every Result created by {@link Result#of},
+ * {@link Result#reject}, {@link Result#rejectStackless}, {@link Result#rejectLazily},
+ * {@link ExceptionalFunctionWrapper#wrap}, {@link ExceptionalSupplierWrapper#wrap}, {@link ResultPipeline},
+ * {@link Results#exMapBatched} and the {@code exMap} methods.
+ * At most one instrumentation is installed at a time. {@link OutcomeCounters} is a ready-made in-memory one.
+ * <p>
+ * While nothing is installed, each of those sites pays a single well-predicted null check.
+ * Implementations are called on the thread that produced the Result, in the hot path, so they must be
+ * thread-safe, fast and must not throw.
+ */
+public interface ResultInstrumentation {
+    /**
+     * The tag reported for Results created without a call-site tag, e.g. by {@link Result#of}.
+     */
+    String UNTAGGED = "";
+
+    /**
+     * Called when an accepted, non-empty Result is created.
+     */
+    void onAccepted(String tag);
+
+    /**
+     * Called when an empty Result is created.
+     */
+    void onEmpty(String tag);
+
+    /**
+     * Called when a rejected Result is created.
+     */
+    void onRejected(String tag, Throwable throwable);
+
+    /**
+     * Called when a rejected Result is created by {@link Result#rejectLazily}, with a supplier of its Throwable that
+     * is shared with the Result, so the Throwable is created at most once. By default calls
+     * {@link #onRejected(String, Throwable)}, which creates it; override to count such rejections without doing so.
+     */
+    default void onRejectedLazily(String tag, Supplier<? extends Throwable> throwable) {
+        onRejected(tag, throwable.get());
+    }
+
+    /**
+     * Installs {@code instrumentation}, replacing any previously installed one.
+     */
+    static void install(ResultInstrumentation instrumentation) {
+        Instrumentation.hook = Objects.requireNonNull(instrumentation);
+    }
+
+    /**
+     * Removes the installed instrumentation, if any.
+     */
+    static void uninstall() {
+        Instrumentation.hook = null;
+    }
+
+    /**
+     * The currently installed instrumentation, if any.
+     */
+    static Optional<ResultInstrumentation> installed() {
+        return Optional.ofNullable(Instrumentation.hook);
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.mooninaut.result;
+
+import java.util.function.Supplier;
+
+/*
+ * ResultLayout.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Creates every Result in the library, in one of two layouts chosen once per JVM with the system property
+ * {@value #PROPERTY}:
+ * <ul>
+ * <li>{@code classes} (the default): one class per state, {@link AcceptedResult}, {@link EmptyResult} and
+ * {@link RejectedResult}. Best when each call site only ever sees one or two states.</li>
+ * <li>{@code tagged}: a single final class, {@link TaggedResult}, with a state tag. Best when hot call sites see
+ * accepted, empty and rejected Results mixed together, which would otherwise make them megamorphic.</li>
+ * </ul>
+ * The flag is a static final constant, so the JIT removes the branch for whichever layout is not in use.
+ */
+final class ResultLayout {
+    static final String PROPERTY = "io.github.mooninaut.result.layout";
+    static final boolean TAGGED = "tagged".equals(System.getProperty(PROPERTY));
+
+    private ResultLayout() { }
+
+    static <VAL> Result<VAL> accepted(VAL value) {
+        return TAGGED ? TaggedResult.accepted(value) : new AcceptedResult<>(value);
+    }
+
+    static <VAL> Result<VAL> empty() {
+        return TAGGED ? TaggedResult.empty() : EmptyResult.getInstance();
+    }
+
+    static <VAL> Result<VAL> rejected(Throwable throwable) {
+        JfrEvents.rejected(throwable);
+        return TAGGED ? TaggedResult.rejected(throwable) : new RejectedResult<>(throwable);
+    }
+
+    static <VAL> Result<VAL> rejectedLazily(Supplier<? extends Throwable> throwableSupplier) {
+        JfrEvents.rejected(null);
+        return TAGGED ? TaggedResult.rejectedLazily(throwableSupplier) : new RejectedResult<>(throwableSupplier);
+    }
+}
@@ -0,0 +1,222 @@
+package io.github.mooninaut.result;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/*
+ * ResultPipeline.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Fuses a chain of {@link Result#map} and {@link Result#exMap} steps into a single function.
+ * Intermediate values are passed directly from one step to the next without being wrapped in Results,
+ * and only the final Result is allocated. Pipelines of up to four steps give each step its own call site, so the
+ * JIT can inline them as it would a chain of Result calls; longer pipelines apply their steps in a loop.
+ * <p>
+ * The fused function behaves exactly like the equivalent chain of Result calls: a rejected input is returned
+ * unchanged, an empty input is passed to the first step as {@code null}, a {@code null} from any step is passed on
+ * to the next, checked exceptions thrown by an {@code exMap} step reject the Result and skip the remaining steps,
+ * and unchecked exceptions propagate to the caller.
+ * <p>
+ * Pipelines are immutable, and each step returns a new one, so a common prefix may be shared.
+ * Example use:
+ * {@code Function<Result<URL>, Result<String>> read = ResultPipeline.<URL>start()
+ *     .exMap(URL::toURI)
+ *     .map(Paths::get)
+ *     .exMap(Files::readAllLines)
+ *     .map(lines -> String.join("\n", lines))
+ *     .build();}
+ * @param <IN> The value type of the input Result.
+ * @param <OUT> The value type of the output Result.
+ */
+public final class ResultPipeline<IN, OUT> {
+    private static final ResultPipeline<?, ?> EMPTY = new ResultPipeline<>(new Object[0], new boolean[0]);
+
+    /**
+     * The steps in order, applied by a single loop rather than by nested lambdas, so a call costs one dispatch per
+     * step however long the pipeline is. Each step is a {@link Function} or, where {@code exceptional} is set, an
+     * {@link ExceptionalFunction}.
+     */
+    private final Object[] steps;
+    private final boolean[] exceptional;
+
+    private ResultPipeline(Object[] steps, boolean[] exceptional) {
+        this.steps = steps;
+        this.exceptional = exceptional;
+    }
+
+    /**
+     * Starts an empty pipeline, which passes values through unchanged.
+     */
+    @SuppressWarnings("unchecked")
+    public static <IN> ResultPipeline<IN, IN> start() {
+        return (ResultPipeline<IN, IN>) EMPTY;
+    }
+
+    /**
+     * Starts an empty pipeline for values of type {@code inClass}. Useful where type inference needs a hint.
+     */
+    public static <IN> ResultPipeline<IN, IN> start(Class<IN> inClass) {
+        Objects.requireNonNull(inClass);
+        return start();
+    }
+
+    /**
+     * Appends a step equivalent to {@link Result#map}.
+     */
+    public <NEXT> ResultPipeline<IN, NEXT> map(Function<? super OUT, ? extends NEXT> mapper) {
+        return append(Objects.requireNonNull(mapper), false);
+    }
+
+    /**
+     * Appends a step equivalent to {@link Result#exMap}.
+     */
+    public <NEXT> ResultPipeline<IN, NEXT> exMap(ExceptionalFunction<? super OUT, ? extends NEXT> mapper) {
+        return append(Objects.requireNonNull(mapper), true);
+    }
+
+    /**
+     * Appends a step equivalent to {@link Result#exMapChecked}.
+     */
+    public <NEXT> ResultPipeline<IN, NEXT> exMapChecked(
+            ExceptionalFunction<? super OUT, ? extends NEXT> mapper,
+            Class<OUT> inClass,
+            Class<NEXT> outClass) {
+        Objects.requireNonNull(mapper);
+        Objects.requireNonNull(inClass);
+        Objects.requireNonNull(outClass);
+        ExceptionalFunction<Object, NEXT> checked = in -> outClass.cast(mapper.apply(inClass.cast(in)));
+        return append(checked, true);
+    }
+
+    /**
+     * Returns the fused pipeline as a function from Result to Result, suitable for {@code Stream.map}.
+     */
+    public Function<Result<IN>, Result<OUT>> build() {
+        ExceptionalFunction<IN, OUT> fused = fused();
+        return result -> {
+            if (result.isRejected()) {
+                return result.uncheckedCast();
+            }
+            return apply(fused, result.get());
+        };
+    }
+
+    /**
+     * Returns the fused pipeline as a function from a plain value to a Result, suitable for {@code Stream.map}
+     * over values that are not yet in Results.
+     */
+    public ExceptionalFunctionWrapper<IN, OUT> buildForValues() {
+        return ExceptionalFunctionWrapper.wrap(fused());
+    }
+
+    ////// Private methods //////
+
+    private <NEXT> ResultPipeline<IN, NEXT> append(Object step, boolean isExceptional) {
+        int length = steps.length;
+        Object[] nextSteps = Arrays.copyOf(steps, length + 1);
+        boolean[] nextExceptional = Arrays.copyOf(exceptional, length + 1);
+        nextSteps[length] = step;
+        nextExceptional[length] = isExceptional;
+        return new ResultPipeline<>(nextSteps, nextExceptional);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ExceptionalFunction<IN, OUT> fused() {
+        if (steps.length <= Unrolled.MAX_STEPS) {
+            return (ExceptionalFunction<IN, OUT>) new Unrolled(steps, exceptional);
+        }
+        Object[] fusedSteps = steps;
+        boolean[] fusedExceptional = exceptional;
+        return in -> {
+            Object value = in;
+            for (int i = 0; i < fusedSteps.length; i++) {
+                if (fusedExceptional[i]) {
+                    value = ((ExceptionalFunction<Object, Object>) fusedSteps[i]).apply(value);
+                } else {
+                    value = ((Function<Object, Object>) fusedSteps[i]).apply(value);
+                }
+            }
+            return (OUT) value;
+        };
+    }
+
+    /**
+     * A pipeline of up to {@link #MAX_STEPS} steps, written out position by position. Each position has its own
+     * call site, so the JIT profiles and inlines each step separately instead of seeing every step at one site, as
+     * it does in the loop used for longer pipelines.
+     */
+    @SuppressWarnings("unchecked")
+    private static final class Unrolled implements ExceptionalFunction<Object, Object> {
+        static final int MAX_STEPS = 4;
+
+        private final int length;
+        private final Function<Object, Object> map0, map1, map2, map3;
+        private final ExceptionalFunction<Object, Object> exMap0, exMap1, exMap2, exMap3;
+
+        Unrolled(Object[] steps, boolean[] exceptional) {
+            this.length = steps.length;
+            this.map0 = map(steps, exceptional, 0);
+            this.map1 = map(steps, exceptional, 1);
+            this.map2 = map(steps, exceptional, 2);
+            this.map3 = map(steps, exceptional, 3);
+            this.exMap0 = exMap(steps, exceptional, 0);
+            this.exMap1 = exMap(steps, exceptional, 1);
+            this.exMap2 = exMap(steps, exceptional, 2);
+            this.exMap3 = exMap(steps, exceptional, 3);
+        }
+
+        private static Function<Object, Object> map(Object[] steps, boolean[] exceptional, int i) {
+            return i < steps.length && !exceptional[i] ? (Function<Object, Object>) steps[i] : null;
+        }
+
+        private static ExceptionalFunction<Object, Object> exMap(Object[] steps, boolean[] exceptional, int i) {
+            return i < steps.length && exceptional[i] ? (ExceptionalFunction<Object, Object>) steps[i] : null;
+        }
+
+        @Override
+        public Object apply(Object in) throws Throwable {
+            Object value = in;
+            if (length > 0) {
+                value = map0 != null ? map0.apply(value) : exMap0.apply(value);
+            }
+            if (length > 1) {
+                value = map1 != null ? map1.apply(value) : exMap1.apply(value);
+            }
+            if (length > 2) {
+                value = map2 != null ? map2.apply(value) : exMap2.apply(value);
+            }
+            if (length > 3) {
+                value = map3 != null ? map3.apply(value) : exMap3.apply(value);
+            }
+            return value;
+        }
+    }
+
+    private static <IN, OUT> Result<OUT> apply(ExceptionalFunction<? super IN, ? extends OUT> fused, IN in) {
+        OUT out;
+        try {
+            out = fused.apply(in);
+        } catch (Throwable ex) {
+            Exceptions.throwIfUnchecked(ex);
+            Instrumentation.rejected(ResultInstrumentation.UNTAGGED, ex);
+            return ResultLayout.rejected(ex);
+        }
+        Instrumentation.accepted(ResultInstrumentation.UNTAGGED, out);
+        return Result.accept(out);
+    }
+}
@@ -1,8 +1,17 @@
 package io.github.mooninaut.result;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 /*
@@ -76,6 +85,34 @@ public interface Results {
         return valueStream(collection.stream());
     }
 
+    /**
+     * Map and filter a Stream of Results to a Stream of just values, routing each rejected Result to
+     * {@code rejectionSink} as the returned Stream is consumed.
+     * Unlike {@link #splitStream(Stream)}, nothing is buffered: the input is pulled lazily, one element at a time,
+     * so memory use does not depend on the size of the input. Rejections only reach the sink when the returned
+     * Stream is actually traversed, and short-circuiting operations such as {@code limit} or {@code findFirst}
+     * stop both sides early.
+     */
+    static <VAL> Stream<VAL> valueStream(Stream<Result<VAL>> stream, RejectionSink rejectionSink) {
+        Objects.requireNonNull(rejectionSink);
+        return stream.filter(result -> {
+            if (result.isRejected()) {
+                rejectionSink.accept(result);
+                return false;
+            }
+            return true;
+        }).map(Result::get);
+    }
+
+    /**
+     * Map and filter a Collection of Results to a Stream of just values, routing each rejected Result to
+     * {@code rejectionSink} as the returned Stream is consumed.
+     * @see #valueStream(Stream, RejectionSink)
+     */
+    static <VAL> Stream<VAL> valueStream(Collection<Result<VAL>> collection, RejectionSink rejectionSink) {
+        return valueStream(collection.stream(), rejectionSink);
+    }
+
     /**
      * Map and filter a Stream of Results to a Stream of just Throwables.
      */
@@ -111,10 +148,369 @@ public interface Results {
         return stream.collect(SplitCollectorImpl.collector());
     }
 
+    /**
+     * A Collector into a SplitStream that does not preserve encounter order on either side. On a parallel stream,
+     * every thread accumulates into its own lock-free slab of one shared container, so nothing is merged.
+     * Use it when order does not matter, e.g. {@code stream.parallel().unordered().collect(concurrentSplitCollector())}.
+     */
+    static <VAL> Collector<Result<VAL>, ?, SplitStream<VAL>> concurrentSplitCollector() {
+        return ConcurrentSplitCollector.collector();
+    }
+
+    /**
+     * Like {@link #splitStream(Stream)}, but in no particular order, and without merging per-thread containers when
+     * {@code stream} is parallel.
+     * @see #concurrentSplitCollector()
+     */
+    static <VAL> SplitStream<VAL> splitStreamUnordered(Stream<Result<VAL>> stream) {
+        return stream.unordered().collect(ConcurrentSplitCollector.collector());
+    }
+
     /**
      * Transforms a Collection of Results to a single SplitStream containing a stream of values and a Stream of Throwables.
      */
     static <VAL> SplitStream<VAL> splitStream(Collection<Result<VAL>> collection) {
         return splitStream(collection.stream());
     }
+
+    /**
+     * Splits a List of Results into a SplitStream in parallel on the common ForkJoinPool, keeping encounter order
+     * on both sides.
+     * @see #partition(List, BulkOptions)
+     */
+    static <VAL> SplitStream<VAL> partition(List<? extends Result<VAL>> results) {
+        return Partitioner.partition(results, BulkOptions.defaults());
+    }
+
+    /**
+     * Splits a List of Results into a SplitStream in parallel, keeping encounter order on both sides.
+     * The list is split by index range. Each range first records the positions of its rejected Results in a
+     * primitive index buffer, then copies its values and Throwables directly into their final places in two
+     * exactly-sized arrays, with no merging.
+     * Lists that are not {@link java.util.RandomAccess} are copied first.
+     * {@link BulkOptions#getPool()} and {@link BulkOptions#getThreshold()} apply; fail-fast does not.
+     */
+    static <VAL> SplitStream<VAL> partition(List<? extends Result<VAL>> results, BulkOptions options) {
+        return Partitioner.partition(results, options);
+    }
+
+    /**
+     * Splits an array of Results into a SplitStream in parallel on the common ForkJoinPool, keeping encounter order
+     * on both sides.
+     * @see #partition(List, BulkOptions)
+     */
+    static <VAL> SplitStream<VAL> partition(Result<VAL>[] results) {
+        return Partitioner.partition(Arrays.asList(results), BulkOptions.defaults());
+    }
+
+    /**
+     * A Collector that counts accepted, empty and rejected Results and rejections by exception class, keeping the
+     * first {@value OutcomeSummary#DEFAULT_EXEMPLARS} rejections' Throwables as exemplars. Values are never retained.
+     * @see #summarizing(int)
+     */
+    static Collector<Result<?>, ?, OutcomeSummary> summarizing() {
+        return OutcomeSummary.collector(OutcomeSummary.DEFAULT_EXEMPLARS);
+    }
+
+    /**
+     * A Collector that counts accepted, empty and rejected Results and rejections by exception class, keeping the
+     * first {@code maxExemplars} rejections' Throwables, in encounter order, as exemplars.
+     * Values are never retained, so memory use depends only on the number of distinct exception classes and
+     * {@code maxExemplars}. Lazily rejected Results are made to create their Throwables.
+     */
+    static Collector<Result<?>, ?, OutcomeSummary> summarizing(int maxExemplars) {
+        return OutcomeSummary.collector(maxExemplars);
+    }
+
+    /**
+     * Summarizes a Stream of Results in one pass.
+     * @see #summarizing(int)
+     */
+    static OutcomeSummary summarize(Stream<? extends Result<?>> stream) {
+        return stream.collect(summarizing());
+    }
+
+    /**
+     * A Collector that separates values from rejections and groups the rejections by route in a single pass.
+     * Each rejection goes to the first route its exception class is assignable to, as with a sequence of
+     * {@code catch} clauses, so list specific routes before general ones; {@code Throwable.class} last catches
+     * everything else. Rejections matching no route are kept apart as unmatched.
+     * <p>
+     * Each exception class is matched against the routes once and the answer cached, so the Collector is worth
+     * keeping, e.g. in a {@code static final} field, when the same routing is applied to many streams.
+     * @throws IllegalArgumentException if there are no routes or a route is repeated
+     */
+    @SafeVarargs
+    static <VAL> Collector<Result<VAL>, ?, ExceptionGroups<VAL>> groupingByException(
+            Class<? extends Throwable>... routes) {
+        List<Class<? extends Throwable>> copy = new ArrayList<>(routes.length);
+        for (Class<? extends Throwable> route : routes) {
+            copy.add(route);
+        }
+        return ExceptionGroups.collector(copy);
+    }
+
+    /**
+     * Map and filter a Stream of IntResults to an IntStream of just the present values, without boxing.
+     */
+    static IntStream intValueStream(Stream<IntResult> stream) {
+        return stream.filter(IntResult::isPresent).mapToInt(IntResult::get);
+    }
+
+    /**
+     * Map and filter a Collection of IntResults to an IntStream of just the present values, without boxing.
+     */
+    static IntStream intValueStream(Collection<IntResult> collection) {
+        return intValueStream(collection.stream());
+    }
+
+    /**
+     * Transforms a Stream of IntResults to a single IntSplitStream containing an IntStream of values
+     * and a Stream of Throwables. No value is boxed.
+     */
+    static IntSplitStream splitToIntStream(Stream<IntResult> stream) {
+        return stream.collect(IntSplitStream.collector());
+    }
+
+    /**
+     * Transforms a Collection of IntResults to a single IntSplitStream containing an IntStream of values
+     * and a Stream of Throwables. No value is boxed.
+     */
+    static IntSplitStream splitToIntStream(Collection<IntResult> collection) {
+        return splitToIntStream(collection.stream());
+    }
+
+    /**
+     * Map and filter a Stream of LongResults to a LongStream of just the present values, without boxing.
+     */
+    static LongStream longValueStream(Stream<LongResult> stream) {
+        return stream.filter(LongResult::isPresent).mapToLong(LongResult::get);
+    }
+
+    /**
+     * Map and filter a Collection of LongResults to a LongStream of just the present values, without boxing.
+     */
+    static LongStream longValueStream(Collection<LongResult> collection) {
+        return longValueStream(collection.stream());
+    }
+
+    /**
+     * Transforms a Stream of LongResults to a single LongSplitStream containing a LongStream of values
+     * and a Stream of Throwables. No value is boxed.
+     */
+    static LongSplitStream splitToLongStream(Stream<LongResult> stream) {
+        return stream.collect(LongSplitStream.collector());
+    }
+
+    /**
+     * Transforms a Collection of LongResults to a single LongSplitStream containing a LongStream of values
+     * and a Stream of Throwables. No value is boxed.
+     */
+    static LongSplitStream splitToLongStream(Collection<LongResult> collection) {
+        return splitToLongStream(collection.stream());
+    }
+
+    /**
+     * Map and filter a Stream of DoubleResults to a DoubleStream of just the present values, without boxing.
+     */
+    static DoubleStream doubleValueStream(Stream<DoubleResult> stream) {
+        return stream.filter(DoubleResult::isPresent).mapToDouble(DoubleResult::get);
+    }
+
+    /**
+     * Map and filter a Collection of DoubleResults to a DoubleStream of just the present values, without boxing.
+     */
+    static DoubleStream doubleValueStream(Collection<DoubleResult> collection) {
+        return doubleValueStream(collection.stream());
+    }
+
+    /**
+     * Transforms a Stream of DoubleResults to a single DoubleSplitStream containing a DoubleStream of values
+     * and a Stream of Throwables. No value is boxed.
+     */
+    static DoubleSplitStream splitToDoubleStream(Stream<DoubleResult> stream) {
+        return stream.collect(DoubleSplitStream.collector());
+    }
+
+    /**
+     * Transforms a Collection of DoubleResults to a single DoubleSplitStream containing a DoubleStream of values
+     * and a Stream of Throwables. No value is boxed.
+     */
+    static DoubleSplitStream splitToDoubleStream(Collection<DoubleResult> collection) {
+        return splitToDoubleStream(collection.stream());
+    }
+
+    /**
+     * Runs every task concurrently and returns their Results in the same order as {@code tasks}.
+     * On Java 21 and later each task runs on its own virtual thread, unless {@code options} supplies an executor.
+     * If the deadline in {@code options} passes, or the calling thread is interrupted, running tasks are
+     * interrupted, and every unfinished task's Result is rejected with a {@link java.util.concurrent.TimeoutException}
+     * or {@link InterruptedException} respectively. Blocks until all Results are available.
+     */
+    static <T> List<Result<T>> invokeAll(
+            Collection<? extends ExceptionalSupplier<? extends T>> tasks,
+            InvokeOptions options) {
+        return BatchInvoker.invokeAll(tasks, options, true);
+    }
+
+    /**
+     * Like {@link #invokeAll(Collection, InvokeOptions)}, but returns Results in the order the tasks completed.
+     * Unfinished tasks rejected because of a deadline or interruption come last.
+     */
+    static <T> List<Result<T>> invokeAllInCompletionOrder(
+            Collection<? extends ExceptionalSupplier<? extends T>> tasks,
+            InvokeOptions options) {
+        return BatchInvoker.invokeAll(tasks, options, false);
+    }
+
+    /**
+     * Applies {@code exFunc} to every Result in {@code results} in parallel on the common ForkJoinPool,
+     * as if by {@link Result#exMap}, and returns the outputs in the same order.
+     * @see #exMapAll(List, ExceptionalFunction, BulkOptions)
+     */
+    static <IN, OUT> List<Result<OUT>> exMapAll(
+            List<Result<IN>> results,
+            ExceptionalFunction<? super IN, ? extends OUT> exFunc) {
+        return exMapAll(results, exFunc, BulkOptions.defaults());
+    }
+
+    /**
+     * Applies {@code exFunc} to every Result in {@code results} in parallel, as if by {@link Result#exMap},
+     * and returns the outputs in the same order, as a fixed-size List.
+     * The input is split by index range into fork/join tasks of at most {@link BulkOptions#getThreshold()} elements,
+     * each writing directly into one pre-sized output array. With {@link BulkOptions#isFailFast()}, elements not yet
+     * processed when a rejection is produced are skipped, and rejected with a {@link SkippedException}.
+     * As with {@link Result#exMap}, unchecked exceptions thrown by {@code exFunc} propagate to the caller.
+     */
+    @SuppressWarnings("unchecked")
+    static <IN, OUT> List<Result<OUT>> exMapAll(
+            List<Result<IN>> results,
+            ExceptionalFunction<? super IN, ? extends OUT> exFunc,
+            BulkOptions options) {
+        Result<IN>[] inputs = results.toArray((Result<IN>[]) new Result<?>[0]);
+        return Arrays.asList(BulkMapper.exMapAll(inputs, exFunc, options));
+    }
+
+    /**
+     * Applies {@code exFunc} to every Result in {@code results} in parallel on the common ForkJoinPool,
+     * as if by {@link Result#exMap}, and returns the outputs in a new array in the same order.
+     * @see #exMapAll(List, ExceptionalFunction, BulkOptions)
+     */
+    static <IN, OUT> Result<OUT>[] exMapAll(
+            Result<IN>[] results,
+            ExceptionalFunction<? super IN, ? extends OUT> exFunc) {
+        return BulkMapper.exMapAll(results, exFunc, BulkOptions.defaults());
+    }
+
+    /**
+     * Applies {@code exFunc} to every Result in {@code results} in parallel, as if by {@link Result#exMap},
+     * and returns the outputs in a new array in the same order.
+     * @see #exMapAll(List, ExceptionalFunction, BulkOptions)
+     */
+    static <IN, OUT> Result<OUT>[] exMapAll(
+            Result<IN>[] results,
+            ExceptionalFunction<? super IN, ? extends OUT> exFunc,
+            BulkOptions options) {
+        return BulkMapper.exMapAll(results, exFunc, options);
+    }
+
+    /**
+     * Maps a Stream of Results lazily in batches, calling {@code batchFunc} once per {@code batchSize} accepted
+     * inputs instead of once per input as {@link #exMapper} would. Useful when the function calls a service that
+     * is much cheaper per item in bulk.
+     * <p>
+     * {@code batchFunc} receives the values of consecutive accepted Results, including {@code null} for empty ones,
+     * and must return one output per input, in the same order. Rejected inputs are passed through in place.
+     * A checked exception thrown by {@code batchFunc} rejects every Result in its batch; as with
+     * {@link Result#exMap}, unchecked exceptions propagate to the caller, as does an
+     * {@link IllegalStateException} if the number of outputs is wrong.
+     * The last batch, and each batch of a parallel stream's splits, may be smaller than {@code batchSize}.
+     * @see #exMapBatched(Stream, ExceptionalFunction, int, Duration)
+     */
+    static <IN, OUT> Stream<Result<OUT>> exMapBatched(
+            Stream<Result<IN>> stream,
+            ExceptionalFunction<? super List<IN>, ? extends List<? extends OUT>> batchFunc,
+            int batchSize) {
+        return exMapBatched(stream, batchFunc, batchSize, Duration.ZERO);
+    }
+
+    /**
+     * Like {@link #exMapBatched(Stream, ExceptionalFunction, int)}, but also ends a batch early once
+     * {@code maxWait} has passed since its first input was pulled, which bounds the added latency when the source
+     * is slow. The wait is checked as each input arrives, so it cannot cut short a single blocking pull.
+     * {@link Duration#ZERO} means batches wait until full.
+     */
+    static <IN, OUT> Stream<Result<OUT>> exMapBatched(
+            Stream<Result<IN>> stream,
+            ExceptionalFunction<? super List<IN>, ? extends List<? extends OUT>> batchFunc,
+            int batchSize,
+            Duration maxWait) {
+        Objects.requireNonNull(batchFunc);
+        return exMapBatchedResults(stream, inputs -> {
+            List<? extends OUT> outputs = batchFunc.apply(inputs);
+            List<Result<OUT>> results = new ArrayList<>(outputs.size());
+            for (OUT output : outputs) {
+                Instrumentation.accepted(ResultInstrumentation.UNTAGGED, output);
+                results.add(Result.accept(output));
+            }
+            return results;
+        }, batchSize, maxWait);
+    }
+
+    /**
+     * Like {@link #exMapBatched(Stream, ExceptionalFunction, int, Duration)}, but {@code batchFunc} returns a
+     * Result for each input, so individual items can be rejected while the rest of their batch is accepted.
+     */
+    static <IN, OUT> Stream<Result<OUT>> exMapBatchedResults(
+            Stream<Result<IN>> stream,
+            ExceptionalFunction<? super List<IN>, ? extends List<? extends Result<? extends OUT>>> batchFunc,
+            int batchSize,
+            Duration maxWait) {
+        return BatchingSpliterator.exMapBatched(stream, batchFunc, batchSize, maxWait.toNanos());
+    }
+
+    /**
+     * Turns a Stream of Results into a single Result: accepted with a List of all the values in encounter order if
+     * every Result is accepted, otherwise rejected with the Throwable of the first rejected Result.
+     * Stops pulling from {@code stream} at the first rejection, so the rest of the input is never computed.
+     * Parallel streams are traversed in parallel. Once a rejection is found, workers stop as they pass it, while
+     * those working on earlier elements run on, so the Throwable returned is the same as a sequential run's.
+     */
+    static <VAL> Result<List<VAL>> sequence(Stream<Result<VAL>> stream) {
+        return Sequencer.sequence(stream, 1);
+    }
+
+    /**
+     * Turns a Collection of Results into a single Result, stopping at the first rejection.
+     * @see #sequence(Stream)
+     */
+    static <VAL> Result<List<VAL>> sequence(Collection<Result<VAL>> collection) {
+        return sequence(collection.stream());
+    }
+
+    /**
+     * Like {@link #sequence(Stream)}, but keeps going until {@code maxErrors} rejections have been seen, and if there
+     * were any, rejects with a {@link MultipleRejectionsException} listing them in encounter order.
+     */
+    static <VAL> Result<List<VAL>> sequence(Stream<Result<VAL>> stream, int maxErrors) {
+        return Sequencer.sequence(stream, maxErrors);
+    }
+
+    /**
+     * Applies {@code exFunc} to each element of {@code stream} and returns a single Result: accepted with a List of
+     * all the outputs in encounter order, or rejected with the first checked exception thrown.
+     * {@code exFunc} is not called on any element after the first rejection.
+     * @see #sequence(Stream)
+     */
+    static <IN, OUT> Result<List<OUT>> traverse(Stream<IN> stream, ExceptionalFunction<? super IN, ? extends OUT> exFunc) {
+        return Sequencer.sequence(stream.map(ExceptionalFunctionWrapper.<IN, OUT>wrap(exFunc)), 1);
+    }
+
+    /**
+     * Applies {@code exFunc} to each element of {@code collection}, stopping at the first rejection.
+     * @see #traverse(Stream, ExceptionalFunction)
+     */
+    static <IN, OUT> Result<List<OUT>> traverse(Collection<IN> collection, ExceptionalFunction<? super IN, ? extends OUT> exFunc) {
+        return traverse(collection.stream(), exFunc);
+    }
 }
@@ -0,0 +1,241 @@
+package io.github.mooninaut.result;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/*
+ * RetryPolicy.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * When and how often to retry a failed call: a maximum number of attempts, exponential backoff with jitter
+ * between them, which failures are worth retrying, and an optional deadline for all attempts together.
+ * Immutable; create with {@link #builder()}, or use {@link #defaults()}.
+ * <p>
+ * Apply a policy with {@link ExceptionalSupplierWrapper#retrying}, {@link ExceptionalFunctionWrapper#retrying},
+ * which sleep between attempts, or with {@link AsyncResult#retry}, which schedules attempts on a timer instead of
+ * holding a thread.
+ */
+public final class RetryPolicy {
+    private static final RetryPolicy DEFAULTS = builder().build();
+
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final long maxDelayNanos;
+    private final double multiplier;
+    private final double jitter;
+    private final Predicate<? super Throwable> retryOn;
+    private final Duration deadline;
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialDelayNanos = builder.initialDelay.toNanos();
+        this.maxDelayNanos = builder.maxDelay.toNanos();
+        this.multiplier = builder.multiplier;
+        this.jitter = builder.jitter;
+        this.retryOn = builder.retryOn;
+        this.deadline = builder.deadline;
+    }
+
+    /**
+     * 3 attempts, 100ms initial delay doubling up to 10s, 50% jitter, retrying any Exception except
+     * InterruptedException, and no deadline.
+     */
+    public static RetryPolicy defaults() {
+        return DEFAULTS;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The maximum number of calls, including the first.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * How long all attempts together, including delays, may take, or {@code null} for no limit.
+     */
+    public Duration getDeadline() {
+        return deadline;
+    }
+
+    ////// Package-private methods //////
+
+    /**
+     * Decides whether to retry after attempt number {@code attempts} (counting from 1) failed with {@code failure}.
+     * @param startNanos the System.nanoTime() of the first attempt
+     * @return how many nanoseconds to wait before the next attempt, or -1 not to retry
+     */
+    long nextDelayNanos(Throwable failure, int attempts, long startNanos) {
+        if (attempts >= maxAttempts || !retryOn.test(failure)) {
+            return -1;
+        }
+        double backoff = initialDelayNanos * Math.pow(multiplier, attempts - 1);
+        long delay = (long) (Math.min(backoff, maxDelayNanos) * (1 - jitter * ThreadLocalRandom.current().nextDouble()));
+        if (deadline != null && System.nanoTime() + delay - startNanos > deadline.toNanos()) {
+            return -1;
+        }
+        return delay;
+    }
+
+    /**
+     * Calls {@code es} until it returns, or until this policy gives up, sleeping between attempts.
+     * @throws Throwable the last failure, or InterruptedException if interrupted while sleeping
+     */
+    <OUT> OUT call(ExceptionalSupplier<? extends OUT> es) throws Throwable {
+        long start = System.nanoTime();
+        for (int attempts = 1; ; attempts++) {
+            try {
+                return es.get();
+            } catch (Throwable err) {
+                long delay = nextDelayNanos(err, attempts, start);
+                if (delay < 0) {
+                    throw err;
+                }
+                sleep(delay);
+            }
+        }
+    }
+
+    private static void sleep(long nanos) throws InterruptedException {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw ie;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{maxAttempts=" + maxAttempts
+                + ", initialDelay=" + Duration.ofNanos(initialDelayNanos)
+                + ", maxDelay=" + Duration.ofNanos(maxDelayNanos)
+                + ", multiplier=" + multiplier
+                + ", jitter=" + jitter
+                + ", deadline=" + deadline + '}';
+    }
+
+    public static class Builder {
+        private int maxAttempts = 3;
+        private Duration initialDelay = Duration.ofMillis(100);
+        private Duration maxDelay = Duration.ofSeconds(10);
+        private double multiplier = 2;
+        private double jitter = 0.5;
+        private Predicate<? super Throwable> retryOn =
+                err -> err instanceof Exception && !(err instanceof InterruptedException);
+        private Duration deadline;
+
+        /**
+         * The maximum number of calls, including the first. 1 means never retry.
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Waits {@code initialDelay} before the first retry, multiplying the delay by the
+         * {@link #multiplier(double) multiplier} before each later one, up to {@code maxDelay}.
+         */
+        public Builder backoff(Duration initialDelay, Duration maxDelay) {
+            if (initialDelay.isNegative() || maxDelay.compareTo(initialDelay) < 0) {
+                throw new IllegalArgumentException(
+                        "delays must satisfy 0 <= initialDelay <= maxDelay: " + initialDelay + ", " + maxDelay);
+            }
+            this.initialDelay = initialDelay;
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * How much the delay grows after each retry. 1 means a constant delay. Defaults to 2.
+         */
+        public Builder multiplier(double multiplier) {
+            if (!(multiplier >= 1)) {
+                throw new IllegalArgumentException("multiplier must be at least 1: " + multiplier);
+            }
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * The largest fraction by which each delay is randomly shortened, so that callers that failed together
+         * do not all retry together. 0 means no jitter, 1 means anywhere from no delay to the full delay.
+         * Defaults to 0.5.
+         */
+        public Builder jitter(double jitter) {
+            if (!(jitter >= 0 && jitter <= 1)) {
+                throw new IllegalArgumentException("jitter must be between 0 and 1: " + jitter);
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Retries only failures matching {@code retryOn}. Other failures are returned immediately.
+         */
+        public Builder retryOn(Predicate<? super Throwable> retryOn) {
+            this.retryOn = Objects.requireNonNull(retryOn);
+            return this;
+        }
+
+        /**
+         * Retries only failures that are instances of one of {@code types}.
+         */
+        @SafeVarargs
+        public final Builder retryOn(Class<? extends Throwable>... types) {
+            Class<?>[] copy = new Class<?>[types.length];
+            for (int i = 0; i < types.length; i++) {
+                copy[i] = Objects.requireNonNull(types[i]);
+            }
+            return retryOn(err -> {
+                for (Class<?> type : copy) {
+                    if (type.isInstance(err)) {
+                        return true;
+                    }
+                }
+                return false;
+            });
+        }
+
+        /**
+         * Gives up, returning the last failure, rather than start a retry that would begin after {@code deadline}
+         * has passed since the first attempt. An attempt already running is not interrupted.
+         */
+        public Builder deadline(Duration deadline) {
+            if (deadline.isNegative()) {
+                throw new IllegalArgumentException("deadline must not be negative: " + deadline);
+            }
+            this.deadline = deadline;
+            return this;
+        }
+
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package io.github.mooninaut.result;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/*
+ * Sequencer.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Turns a Stream of Results into a Result of a List, pulling from the stream only until enough rejections have
+ * been seen. Parallel streams are traversed by fork/join tasks that track the positions of the rejections found so
+ * far: once {@code maxErrors} of them are known, a task stops when it passes the last of those positions, while
+ * tasks for earlier parts of the input run on, so the rejections returned are the same as a sequential run's.
+ * Parts whose position is unknown, because a split could not report its exact size, stop only on their own
+ * rejections.
+ */
+final class Sequencer {
+    private static final int TASKS_PER_THREAD = 4;
+    private static final long UNKNOWN = -1;
+
+    private Sequencer() { }
+
+    static <VAL> Result<List<VAL>> sequence(Stream<? extends Result<? extends VAL>> stream, int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("maxErrors must be positive: " + maxErrors);
+        }
+        State state = new State(maxErrors);
+        Spliterator<? extends Result<? extends VAL>> spliterator = stream.spliterator();
+        Segment<VAL> segment;
+        if (stream.isParallel()) {
+            ForkJoinPool pool = ForkJoinPool.commonPool();
+            long threshold = Math.max(1, spliterator.estimateSize() / ((long) pool.getParallelism() * TASKS_PER_THREAD));
+            segment = pool.invoke(new SequenceTask<>(spliterator, 0, state, threshold));
+        } else {
+            segment = new Segment<>(0);
+            consume(spliterator, state, segment);
+        }
+        return segment.toResult(maxErrors);
+    }
+
+    private static <VAL> void consume(Spliterator<? extends Result<? extends VAL>> spliterator, State state, Segment<VAL> segment) {
+        Consumer<Result<? extends VAL>> action = segment.adder(state);
+        while (!segment.isDone(state) && spliterator.tryAdvance(action)) {
+            // tryAdvance does the work
+        }
+    }
+
+    private static final class State {
+        final int maxErrors;
+        /** The positions of the earliest rejections found so far, at most maxErrors of them, largest first. */
+        private final PriorityQueue<Long> earliest = new PriorityQueue<>(Collections.reverseOrder());
+        /** The last of the first maxErrors rejected positions, once that many are known; nothing after it matters. */
+        private volatile long cutoff = Long.MAX_VALUE;
+
+        State(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        synchronized void rejected(long position) {
+            if (earliest.size() < maxErrors) {
+                earliest.add(position);
+            } else if (position < earliest.peek()) {
+                earliest.poll();
+                earliest.add(position);
+            }
+            if (earliest.size() == maxErrors) {
+                cutoff = earliest.peek();
+            }
+        }
+
+        boolean isPast(long position) {
+            return position > cutoff;
+        }
+    }
+
+    /**
+     * The values and Throwables found in one contiguous part of the input, and the position of the next element,
+     * or {@link #UNKNOWN}.
+     */
+    private static final class Segment<VAL> {
+        final ChunkedBuffer<VAL> values = new ChunkedBuffer<>();
+        final ChunkedBuffer<Throwable> errors = new ChunkedBuffer<>();
+        long position;
+
+        Segment(long position) {
+            this.position = position;
+        }
+
+        Consumer<Result<? extends VAL>> adder(State state) {
+            return result -> {
+                if (result.isRejected()) {
+                    errors.add(result.getException());
+                    if (position != UNKNOWN) {
+                        state.rejected(position);
+                    }
+                } else if (errors.size() == 0) {
+                    values.add(result.get());
+                }
+                if (position != UNKNOWN) {
+                    position++;
+                }
+            };
+        }
+
+        boolean isDone(State state) {
+            return errors.size() >= state.maxErrors || state.isPast(position);
+        }
+
+        Segment<VAL> append(Segment<VAL> other) {
+            values.append(other.values);
+            errors.append(other.errors);
+            return this;
+        }
+
+        Result<List<VAL>> toResult(int maxErrors) {
+            if (errors.size() == 0) {
+                return Result.accept(values.toList());
+            }
+            List<Throwable> throwables = errors.toList();
+            if (maxErrors == 1) {
+                return Result.reject(throwables.get(0));
+            }
+            if (throwables.size() > maxErrors) {
+                throwables = new ArrayList<>(throwables.subList(0, maxErrors));
+            }
+            return Result.reject(new MultipleRejectionsException(throwables));
+        }
+    }
+
+    private static final class SequenceTask<VAL> extends RecursiveTask<Segment<VAL>> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Spliterator<? extends Result<? extends VAL>> spliterator;
+        private final transient State state;
+        private final long threshold;
+        private long origin;
+
+        SequenceTask(Spliterator<? extends Result<? extends VAL>> spliterator, long origin, State state, long threshold) {
+            this.spliterator = spliterator;
+            this.origin = origin;
+            this.state = state;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Segment<VAL> compute() {
+            if (state.isPast(origin)) {
+                return new Segment<>(origin);
+            }
+            Spliterator<? extends Result<? extends VAL>> prefix;
+            if (spliterator.estimateSize() > threshold && (prefix = spliterator.trySplit()) != null) {
+                SequenceTask<VAL> left = new SequenceTask<>(prefix, origin, state, threshold);
+                long prefixSize = prefix.getExactSizeIfKnown();
+                origin = origin == UNKNOWN || prefixSize < 0 ? UNKNOWN : origin + prefixSize;
+                left.fork();
+                Segment<VAL> right = compute();
+                return left.join().append(right);
+            }
+            Segment<VAL> segment = new Segment<>(origin);
+            consume(spliterator, state, segment);
+            return segment;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.mooninaut.result;
+
+/*
+ * SkippedException.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * The exception in the Results of elements that {@link Results#exMapAll} skipped because fail-fast was on and an
+ * earlier element was rejected. A single instance is preallocated and shared by every skipped element, so, like
+ * every {@link StacklessException}, it has no stack trace and ignores suppressed exceptions.
+ */
+public class SkippedException extends StacklessException {
+    private static final long serialVersionUID = 1L;
+
+    static final SkippedException INSTANCE = new SkippedException();
+
+    private SkippedException() {
+        super("Skipped after an earlier rejection");
+    }
+}
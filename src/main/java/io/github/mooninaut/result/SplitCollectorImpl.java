@@ -75,6 +75,10 @@ public class SplitCollectorImpl<VAL>
         return builders.build();
     }
 
+    /**
+     * Encounter order is preserved, the accumulator is not thread-safe, and the finisher is not an identity
+     * function, so none of the optional characteristics apply.
+     */
     @Override
     public Set<Characteristics> characteristics() {
         return Collections.emptySet();
@@ -23,9 +23,9 @@ public class SplitStream<VAL> {
     private final Stream<VAL> valueStream;
     private final Stream<Throwable> exceptionStream;
 
-    SplitStream(Stream.Builder<VAL> valueBuilder, Stream.Builder<Throwable> throwableBuilder) {
-        valueStream = valueBuilder.build();
-        exceptionStream = throwableBuilder.build();
+    SplitStream(ChunkedBuffer<VAL> valueBuffer, ChunkedBuffer<Throwable> throwableBuffer) {
+        valueStream = valueBuffer.stream();
+        exceptionStream = throwableBuffer.stream();
     }
 
     SplitStream(Stream<VAL> valueStream, Stream<Throwable> throwableStream) {
@@ -45,48 +45,75 @@ public class SplitStream<VAL> {
         return new Builder<>();
     }
 
+    /**
+     * Accumulates values and Throwables in encounter order. Builders are combined with {@link #append(Builder)}
+     * in constant time, without copying either side, which keeps parallel collection cheap.
+     * Like {@link Stream.Builder}, a Builder may only be built once, and may not be modified afterwards.
+     */
     public static class Builder<VAL> {
-        private final Stream.Builder<VAL> valueBuilder;
-        private final Stream.Builder<Throwable> exceptionBuilder;
+        private final ChunkedBuffer<VAL> valueBuffer;
+        private final ChunkedBuffer<Throwable> exceptionBuffer;
+        private boolean built;
 
         public Builder() {
-            valueBuilder = Stream.builder();
-            exceptionBuilder = Stream.builder();
+            valueBuffer = new ChunkedBuffer<>();
+            exceptionBuffer = new ChunkedBuffer<>();
         }
 
         public Builder(Stream.Builder<VAL> valueBuilder, Stream.Builder<Throwable> exceptionBuilder) {
-            this.valueBuilder = valueBuilder;
-            this.exceptionBuilder = exceptionBuilder;
+            this();
+            valueBuilder.build().forEachOrdered(valueBuffer);
+            exceptionBuilder.build().forEachOrdered(exceptionBuffer);
         }
 
         public SplitStream<VAL> build() {
-            return new SplitStream<>(valueBuilder, exceptionBuilder);
+            checkNotBuilt();
+            built = true;
+            return new SplitStream<>(valueBuffer, exceptionBuffer);
         }
 
+        /**
+         * Moves the contents of {@code other} to the end of this Builder in constant time.
+         * {@code other} may not be used afterwards.
+         */
         public SplitStream.Builder<VAL> append(SplitStream.Builder<VAL> other) {
-            SplitStream<VAL> otherStream = other.build();
-            otherStream.getValueStream().forEach(valueBuilder);
-            otherStream.getExceptionStream().forEach(exceptionBuilder);
+            if (other == this) {
+                throw new IllegalArgumentException("Cannot append a SplitStream.Builder to itself");
+            }
+            checkNotBuilt();
+            other.checkNotBuilt();
+            other.built = true;
+            valueBuffer.append(other.valueBuffer);
+            exceptionBuffer.append(other.exceptionBuffer);
             return this;
         }
 
         public Builder<VAL> addValue(VAL value) {
-            valueBuilder.add(value);
+            checkNotBuilt();
+            valueBuffer.add(value);
             return this;
         }
 
         public Builder<VAL> addException(Throwable error) {
-            exceptionBuilder.add(error);
+            checkNotBuilt();
+            exceptionBuffer.add(error);
             return this;
         }
 
         public Builder<VAL> add(Result<VAL> result) {
+            checkNotBuilt();
             if (result.isAccepted()) {
-                valueBuilder.add(result.get());
+                valueBuffer.add(result.get());
             } else {
-                exceptionBuilder.add(result.getException());
+                exceptionBuffer.add(result.getException());
             }
             return this;
         }
+
+        private void checkNotBuilt() {
+            if (built) {
+                throw new IllegalStateException("SplitStream.Builder has already been built");
+            }
+        }
     }
 }
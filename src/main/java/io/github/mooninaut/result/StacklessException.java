@@ -0,0 +1,37 @@
+package io.github.mooninaut.result;
+
+/*
+ * StacklessException.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * A lightweight unchecked exception that does not capture a stack trace and does not record suppressed exceptions.
+ * Constructing one costs little more than any other small object, so it is suitable for rejections that are
+ * expected, frequent, and usually only counted or inspected rather than rethrown.
+ * Instances carry no per-throw state and may be preallocated and shared, e.g. in a {@code static final} field.
+ * @see Result#rejectStackless(String)
+ */
+public class StacklessException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public StacklessException(String message) {
+        super(message, null, false, false);
+    }
+
+    public StacklessException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+}
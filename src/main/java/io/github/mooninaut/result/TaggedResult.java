@@ -0,0 +1,380 @@
+package io.github.mooninaut.result;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/*
+ * TaggedResult.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * A single final class holding every state of a Result, distinguished by a tag, used instead of
+ * {@link AcceptedResult}, {@link EmptyResult} and {@link RejectedResult} when {@link ResultLayout#TAGGED} is set.
+ * Because every Result is then of one class, call sites that see all three states stay monomorphic,
+ * and the JIT can inline calls such as {@code isAccepted()} and {@code map()} instead of dispatching through
+ * an itable stub.
+ */
+final class TaggedResult<VAL> implements Result<VAL> {
+    private static final byte ACCEPTED = 0;
+    private static final byte EMPTY = 1;
+    private static final byte REJECTED = 2;
+    private static final byte LAZILY_REJECTED = 3;
+
+    private static final TaggedResult<?> EMPTY_INSTANCE = new TaggedResult<>(EMPTY, null);
+
+    ////// Fields //////
+    private final byte state;
+    /**
+     * The value if accepted, null if empty, the Throwable if rejected, or a LazyThrowable if lazily rejected.
+     */
+    private final Object payload;
+
+    ////// Constructors ///////
+    private TaggedResult(byte state, Object payload) {
+        this.state = state;
+        this.payload = payload;
+    }
+
+    static <VAL> Result<VAL> accepted(VAL value) {
+        return new TaggedResult<>(ACCEPTED, Objects.requireNonNull(value, "accepted value"));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <VAL> Result<VAL> empty() {
+        return (Result<VAL>) EMPTY_INSTANCE;
+    }
+
+    static <VAL> Result<VAL> rejected(Throwable throwable) {
+        return new TaggedResult<>(REJECTED, throwable);
+    }
+
+    static <VAL> Result<VAL> rejectedLazily(Supplier<? extends Throwable> throwableSupplier) {
+        return new TaggedResult<>(LAZILY_REJECTED, new LazyThrowable(throwableSupplier));
+    }
+
+    @SuppressWarnings("unchecked")
+    private VAL value() {
+        return (VAL) payload;
+    }
+
+    private Throwable throwable() {
+        return state == REJECTED ? (Throwable) payload : ((LazyThrowable) payload).get();
+    }
+
+    ////// Public methods ///////
+    @Override
+    public boolean isAccepted() {
+        return state < REJECTED;
+    }
+
+    @Override
+    public boolean isPresent() {
+        return state == ACCEPTED;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return state == EMPTY;
+    }
+
+    @Override
+    public boolean isRejected() {
+        return state >= REJECTED;
+    }
+
+    @Override
+    public Optional<Class<?>> getValueType() {
+        return state == ACCEPTED ? Optional.of(payload.getClass()) : Optional.empty();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <OUT> Result<OUT> checkedCast(Class<OUT> type) throws ClassCastException {
+        if (state == ACCEPTED) {
+            type.cast(payload);
+        }
+        return (Result<OUT>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <OUT> Result<OUT> uncheckedCast() {
+        return (Result<OUT>) this;
+    }
+
+    @Override
+    public VAL get() {
+        if (state >= REJECTED) {
+            throw new IllegalStateException("Cannot get value from rejected Result");
+        }
+        return value();
+    }
+
+    @Override
+    public Throwable getException() {
+        if (state == ACCEPTED) {
+            throw new IllegalStateException("Cannot get exception from accepted Result");
+        }
+        if (state == EMPTY) {
+            throw new IllegalStateException("Cannot get exception from empty Result");
+        }
+        return throwable();
+    }
+
+    @Override
+    public VAL orElse(VAL other) {
+        return state == ACCEPTED ? value() : other;
+    }
+
+    @Override
+    public VAL orElseThrow() throws Throwable {
+        if (state >= REJECTED) {
+            throw throwable();
+        }
+        return value();
+    }
+
+    @Override
+    public VAL orElseThrowRuntime() {
+        if (state >= REJECTED) {
+            throw new RuntimeException(throwable());
+        }
+        return value();
+    }
+
+    @Override
+    public void throwIfRejected() throws Throwable {
+        if (state >= REJECTED) {
+            throw throwable();
+        }
+    }
+
+    @Override
+    public void throwRuntimeIfRejected() throws RuntimeException {
+        if (state >= REJECTED) {
+            throw new RuntimeException(throwable());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <OUT, EF extends ExceptionalFunction<? super VAL, ? extends OUT>>
+    Result<OUT> exMap(EF mapper) {
+        if (state >= REJECTED) {
+            return (Result<OUT>) this;
+        }
+        return ExceptionalFunctionWrapper.wrap(mapper).apply(value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <OUT, EF extends ExceptionalFunction<? super VAL, ? extends OUT>>
+    Result<OUT> exMapChecked(EF mapper, Class<VAL> inClass, Class<OUT> outClass) {
+        if (state >= REJECTED) {
+            return (Result<OUT>) this;
+        }
+        return ExceptionalFunctionWrapper.wrapChecked(mapper, inClass, outClass).apply(value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <OUT, F extends Function<? super VAL, ? extends OUT>>
+    Result<OUT> map(F mapper) {
+        if (state >= REJECTED) {
+            return (Result<OUT>) this;
+        }
+        return Result.accept(mapper.apply(value()));
+    }
+
+    @Override
+    public IntResult exMapToInt(ExceptionalToIntFunction<? super VAL> mapper) {
+        if (state >= REJECTED) {
+            return new RejectedIntResult(this);
+        }
+        try {
+            return AcceptedIntResult.valueOf(mapper.applyAsInt(value()));
+        } catch (Throwable ex) {
+            Exceptions.throwIfUnchecked(ex);
+            return IntResult.reject(ex);
+        }
+    }
+
+    @Override
+    public IntResult mapToInt(ToIntFunction<? super VAL> mapper) {
+        if (state >= REJECTED) {
+            return new RejectedIntResult(this);
+        }
+        return AcceptedIntResult.valueOf(mapper.applyAsInt(value()));
+    }
+
+    @Override
+    public LongResult exMapToLong(ExceptionalToLongFunction<? super VAL> mapper) {
+        if (state >= REJECTED) {
+            return new RejectedLongResult(this);
+        }
+        try {
+            return AcceptedLongResult.valueOf(mapper.applyAsLong(value()));
+        } catch (Throwable ex) {
+            Exceptions.throwIfUnchecked(ex);
+            return LongResult.reject(ex);
+        }
+    }
+
+    @Override
+    public LongResult mapToLong(ToLongFunction<? super VAL> mapper) {
+        if (state >= REJECTED) {
+            return new RejectedLongResult(this);
+        }
+        return AcceptedLongResult.valueOf(mapper.applyAsLong(value()));
+    }
+
+    @Override
+    public DoubleResult exMapToDouble(ExceptionalToDoubleFunction<? super VAL> mapper) {
+        if (state >= REJECTED) {
+            return new RejectedDoubleResult(this);
+        }
+        try {
+            return new AcceptedDoubleResult(mapper.applyAsDouble(value()));
+        } catch (Throwable ex) {
+            Exceptions.throwIfUnchecked(ex);
+            return DoubleResult.reject(ex);
+        }
+    }
+
+    @Override
+    public DoubleResult mapToDouble(ToDoubleFunction<? super VAL> mapper) {
+        if (state >= REJECTED) {
+            return new RejectedDoubleResult(this);
+        }
+        return new AcceptedDoubleResult(mapper.applyAsDouble(value()));
+    }
+
+    @Override
+    public Optional<VAL> toOptional() throws NullPointerException {
+        if (state == EMPTY) {
+            throw new NullPointerException();
+        }
+        return state == ACCEPTED ? Optional.of(value()) : Optional.empty();
+    }
+
+    @Override
+    public Optional<VAL> toNullableOptional() {
+        return state == ACCEPTED ? Optional.of(value()) : Optional.empty();
+    }
+
+    @Override
+    public Result<VAL> ifAccepted(Consumer<? super VAL> consumer) {
+        if (state < REJECTED) {
+            consumer.accept(value());
+        }
+        return this;
+    }
+
+    @Override
+    public Result<VAL> ifRejected(Consumer<? super Throwable> rejector) {
+        if (state >= REJECTED) {
+            rejector.accept(throwable());
+        }
+        return this;
+    }
+
+    @Override
+    public Result<VAL> then(Consumer<? super VAL> consumer, Consumer<? super Throwable> rejector) {
+        if (state < REJECTED) {
+            consumer.accept(value());
+        } else {
+            rejector.accept(throwable());
+        }
+        return this;
+    }
+
+    @Override
+    public Result<VAL> acceptOrElse(Consumer<? super VAL> consumer, VAL other) {
+        consumer.accept(state < REJECTED ? value() : other);
+        return this;
+    }
+
+    @Override
+    public Result<VAL> acceptOrElseThrow(Consumer<? super VAL> consumer) throws Throwable {
+        if (state >= REJECTED) {
+            throw throwable();
+        }
+        consumer.accept(value());
+        return this;
+    }
+
+    @Override
+    public Result<VAL> acceptOrElseThrowRuntime(Consumer<? super VAL> consumer) {
+        if (state >= REJECTED) {
+            throw new RuntimeException(throwable());
+        }
+        consumer.accept(value());
+        return this;
+    }
+
+    @Override
+    public Result<VAL> acceptOrPrintStacktrace(Consumer<? super VAL> consumer) {
+        if (state >= REJECTED) {
+            throwable().printStackTrace();
+        } else {
+            consumer.accept(value());
+        }
+        return this;
+    }
+
+    ////// Object overrides //////
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof LazyResult) {
+            return equals(LazyResult.unwrap(o));
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TaggedResult<?> otherResult = (TaggedResult<?>) o;
+        if (isRejected()) {
+            return otherResult.isRejected() && throwable() == otherResult.throwable();
+        }
+        return state == otherResult.state && Objects.equals(payload, otherResult.payload);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isRejected() ? throwable() : payload);
+    }
+
+    @Override
+    public String toString() {
+        switch (state) {
+            case ACCEPTED:
+                return "Result: accepted, " + payload;
+            case EMPTY:
+                return "Result: empty";
+            default:
+                return "Result: rejected, " + throwable();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.mooninaut.result;
+
+import java.util.Objects;
+
+/*
+ * TimedExceptionalFunctionWrapper.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * An {@link ExceptionalFunctionWrapper} that also records how long each call to the wrapped function takes, in
+ * one {@link LatencyHistogram} for calls that returned and another for calls that threw.
+ * Created by {@link ExceptionalFunctionWrapper#timed(ExceptionalFunction)}.
+ */
+public class TimedExceptionalFunctionWrapper<IN, OUT> implements
+        ExceptionalFunctionWrapper<IN, OUT> {
+    private final ExceptionalFunction<? super IN, ? extends OUT> exceptionalFunction;
+    private final String tag;
+    private final LatencyHistogram acceptedLatency = new LatencyHistogram();
+    private final LatencyHistogram rejectedLatency = new LatencyHistogram();
+
+    TimedExceptionalFunctionWrapper(String tag, ExceptionalFunction<? super IN, ? extends OUT> exceptionalFunction) {
+        this.tag = Objects.requireNonNull(tag);
+        this.exceptionalFunction = Objects.requireNonNull(exceptionalFunction);
+    }
+
+    public ExceptionalFunction<? super IN, ? extends OUT> getExceptionalFunction() {
+        return exceptionalFunction;
+    }
+
+    /**
+     * The call-site tag reported to the installed {@link ResultInstrumentation}.
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * Durations of calls that returned a value, including null.
+     */
+    public LatencyHistogram getAcceptedLatency() {
+        return acceptedLatency;
+    }
+
+    /**
+     * Durations of calls that threw, whether the exception was captured in a rejected Result or, being unchecked,
+     * rethrown.
+     */
+    public LatencyHistogram getRejectedLatency() {
+        return rejectedLatency;
+    }
+
+    @Override
+    public Result<OUT> apply(IN in) {
+        Object event = JfrEvents.beginCall();
+        long start = System.nanoTime();
+        OUT out;
+        try {
+            out = exceptionalFunction.apply(in);
+        } catch (Throwable ex) {
+            rejectedLatency.record(System.nanoTime() - start);
+            JfrEvents.endCall(event, tag, exceptionalFunction, ex);
+            Exceptions.throwIfUnchecked(ex);
+            Instrumentation.rejected(tag, ex);
+            return ResultLayout.rejected(ex);
+        }
+        acceptedLatency.record(System.nanoTime() - start);
+        JfrEvents.endCall(event, tag, exceptionalFunction, null);
+        Instrumentation.accepted(tag, out);
+        return Result.accept(out);
+    }
+
+    @Override
+    public String toString() {
+        return "TimedExceptionalFunctionWrapper{tag='" + tag
+                + "', accepted=" + acceptedLatency.snapshot()
+                + ", rejected=" + rejectedLatency.snapshot() + '}';
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.mooninaut.result;
+
+import jdk.jfr.EventType;
+
+/*
+ * JfrEvents.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Emits Java Flight Recorder events. This is the Java 11 version, replacing the no-op Java 8 version in the
+ * multi-release jar. Both events are disabled by default; enable them in the JFR settings (.jfc) file used for
+ * the recording.
+ */
+final class JfrEvents {
+    private static final EventType WRAPPED_CALL = EventType.getEventType(WrappedCallEvent.class);
+
+    private JfrEvents() { }
+
+    static void rejected(Throwable throwable) {
+        RejectedEvent event = new RejectedEvent();
+        if (event.shouldCommit()) {
+            event.exceptionClass = throwable == null ? null : throwable.getClass();
+            event.lazy = throwable == null;
+            event.commit();
+        }
+    }
+
+    static Object beginCall() {
+        if (!WRAPPED_CALL.isEnabled()) {
+            return null;
+        }
+        WrappedCallEvent event = new WrappedCallEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endCall(Object token, String tag, Object target, Throwable failure) {
+        if (token == null) {
+            return;
+        }
+        WrappedCallEvent event = (WrappedCallEvent) token;
+        event.end();
+        if (event.shouldCommit()) {
+            event.tag = tag;
+            event.targetClass = target.getClass();
+            event.rejected = failure != null;
+            event.exceptionClass = failure == null ? null : failure.getClass();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.mooninaut.result;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/*
+ * RejectedEvent.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Recorded when a rejected Result is created. The stack trace shows where.
+ */
+@Name("io.github.mooninaut.result.Rejected")
+@Label("Result Rejected")
+@Category({"Java Application", "Result"})
+@Description("A rejected Result was created")
+@Enabled(false)
+@StackTrace(true)
+final class RejectedEvent extends Event {
+    @Label("Exception Class")
+    @Description("The class of the Throwable, or null if it is supplied lazily")
+    Class<?> exceptionClass;
+
+    @Label("Lazy")
+    boolean lazy;
+}
@@ -0,0 +1,52 @@
+package io.github.mooninaut.result;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/*
+ * WrappedCallEvent.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Recorded around each call to a function or supplier wrapped by {@link ExceptionalFunctionWrapper#wrap} or
+ * {@link ExceptionalSupplierWrapper#wrap}. The event duration is the duration of the wrapped call.
+ */
+@Name("io.github.mooninaut.result.WrappedCall")
+@Label("Result Wrapped Call")
+@Category({"Java Application", "Result"})
+@Description("A call to a wrapped ExceptionalFunction or ExceptionalSupplier")
+@Enabled(false)
+@StackTrace(false)
+final class WrappedCallEvent extends Event {
+    @Label("Tag")
+    @Description("The call-site tag given to the wrapper, empty if none")
+    String tag;
+
+    @Label("Target Class")
+    @Description("The class of the wrapped function or supplier")
+    Class<?> targetClass;
+
+    @Label("Rejected")
+    boolean rejected;
+
+    @Label("Exception Class")
+    Class<?> exceptionClass;
+}
@@ -4,14 +4,39 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleConsumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
@@ -152,4 +177,1134 @@ public class ResultTest {
         Result<CharSequence> result = Result.safeCast(null, CharSequence.class);
         assertNull(result.get());
     }
+
+    @Test
+    public void rejectStacklessHasMessageAndNoStackTrace() {
+        Result<Object> result = Result.rejectStackless("invalid");
+        assertTrue(result.isRejected());
+        assertTrue(result.getException() instanceof StacklessException);
+        assertEquals("invalid", result.getException().getMessage());
+        assertEquals(0, result.getException().getStackTrace().length);
+    }
+
+    @Test
+    public void rejectLazilyCreatesThrowableOnceOnDemand() {
+        AtomicInteger calls = new AtomicInteger();
+        Result<Object> result = Result.rejectLazily(() -> {
+            calls.incrementAndGet();
+            return new IllegalArgumentException("lazy");
+        });
+
+        assertTrue(result.isRejected());
+        assertEquals("fallback", result.orElse("fallback"));
+        assertEquals(0, calls.get());
+
+        Throwable throwable = result.getException();
+        assertTrue(throwable instanceof IllegalArgumentException);
+        assertSame(throwable, result.getException());
+        try {
+            result.orElseThrow();
+        } catch (Throwable thrown) {
+            assertSame(throwable, thrown);
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void parallelSplitStreamPreservesEncounterOrder() {
+        int size = 100_000;
+        SplitStream<Integer> splitStream = Results.splitStream(
+            IntStream.range(0, size)
+                .parallel()
+                .mapToObj(i -> i % 3 == 0 ? Result.<Integer>rejectStackless(Integer.toString(i)) : Result.accept(i))
+        );
+
+        List<Integer> expectedValues = IntStream.range(0, size)
+            .filter(i -> i % 3 != 0)
+            .boxed()
+            .collect(Collectors.toList());
+        List<String> expectedMessages = IntStream.range(0, size)
+            .filter(i -> i % 3 == 0)
+            .mapToObj(Integer::toString)
+            .collect(Collectors.toList());
+
+        assertEquals(expectedValues, splitStream.getValueStream().parallel().collect(Collectors.toList()));
+        assertEquals(expectedMessages,
+            splitStream.getExceptionStream().map(Throwable::getMessage).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void chunkedBufferSplitsAtTheMiddleElement() {
+        ChunkedBuffer<Integer> buffer = new ChunkedBuffer<>();
+        IntStream.range(0, 10_000).forEach(buffer::add);
+        Spliterator<Integer> rest = buffer.stream().spliterator();
+        Spliterator<Integer> prefix = rest.trySplit();
+        assertEquals(5_000, prefix.estimateSize());
+        assertEquals(5_000, rest.estimateSize());
+        Spliterator<Integer> quarter = prefix.trySplit();
+        assertEquals(2_500, quarter.getExactSizeIfKnown());
+        List<Integer> all = new ArrayList<>();
+        quarter.forEachRemaining(all::add);
+        prefix.forEachRemaining(all::add);
+        rest.forEachRemaining(all::add);
+        assertEquals(IntStream.range(0, 10_000).boxed().collect(Collectors.toList()), all);
+        assertEquals(IntStream.range(0, 10_000).sum(), buffer.stream().parallel().mapToInt(i -> i).sum());
+    }
+
+    @Test
+    public void primitiveChunkedBuffersSplitAtTheMiddleElement() {
+        IntChunkedBuffer ints = new IntChunkedBuffer();
+        LongChunkedBuffer longs = new LongChunkedBuffer();
+        DoubleChunkedBuffer doubles = new DoubleChunkedBuffer();
+        for (int i = 0; i < 10_001; i++) {
+            ints.add(i);
+            longs.add(i);
+            doubles.add(i);
+        }
+
+        Spliterator.OfInt intRest = ints.stream().spliterator();
+        Spliterator.OfInt intPrefix = intRest.trySplit();
+        assertEquals(5_000, intPrefix.estimateSize());
+        assertEquals(5_001, intRest.estimateSize());
+        List<Integer> intAll = new ArrayList<>();
+        intPrefix.forEachRemaining((IntConsumer) intAll::add);
+        intRest.forEachRemaining((IntConsumer) intAll::add);
+        assertEquals(IntStream.range(0, 10_001).boxed().collect(Collectors.toList()), intAll);
+
+        Spliterator.OfLong longRest = longs.stream().spliterator();
+        Spliterator.OfLong longPrefix = longRest.trySplit();
+        assertEquals(5_000, longPrefix.estimateSize());
+        assertEquals(5_001, longRest.estimateSize());
+        List<Long> longAll = new ArrayList<>();
+        longPrefix.forEachRemaining((LongConsumer) longAll::add);
+        longRest.forEachRemaining((LongConsumer) longAll::add);
+        assertEquals(LongStream.range(0, 10_001).boxed().collect(Collectors.toList()), longAll);
+
+        Spliterator.OfDouble doubleRest = doubles.stream().spliterator();
+        Spliterator.OfDouble doublePrefix = doubleRest.trySplit();
+        assertEquals(5_000, doublePrefix.estimateSize());
+        assertEquals(5_001, doubleRest.estimateSize());
+        List<Double> doubleAll = new ArrayList<>();
+        doublePrefix.forEachRemaining((DoubleConsumer) doubleAll::add);
+        doubleRest.forEachRemaining((DoubleConsumer) doubleAll::add);
+        assertEquals(IntStream.range(0, 10_001).asDoubleStream().boxed().collect(Collectors.toList()), doubleAll);
+
+        assertEquals(IntStream.range(0, 10_001).sum(), ints.stream().parallel().sum());
+    }
+
+    @Test
+    public void splitStreamBuilderAppendMovesContents() {
+        SplitStream.Builder<String> one = SplitStream.<String>builder().addValue("a").addException(new Exception());
+        SplitStream.Builder<String> two = SplitStream.<String>builder().addValue("b").addValue(null);
+
+        SplitStream<String> splitStream = one.append(two).build();
+
+        assertEquals(Arrays.asList("a", "b", null), splitStream.getValueStream().collect(Collectors.toList()));
+        assertEquals(1, splitStream.getExceptionStream().count());
+    }
+
+    @Test
+    public void intResultParsesAndMaps() {
+        IntResult parsed = Result.accept("41").exMapToInt(Integer::parseInt);
+        assertTrue(parsed.isPresent());
+        assertEquals(42, parsed.map(i -> i + 1).get());
+        assertEquals(Result.accept(41), parsed.toResult());
+        assertEquals(IntResult.accept(41), IntResult.fromResult(Result.accept(41)));
+    }
+
+    @Test
+    public void intResultExMapCapturesCheckedException() {
+        Exception exception = new Exception();
+        IntResult result = IntResult.accept(1).exMap(i -> { throw exception; });
+        assertTrue(result.isRejected());
+        assertSame(exception, result.getException());
+        assertEquals(-1, result.orElse(-1));
+        assertSame(exception, result.toResult().getException());
+    }
+
+    @Test
+    public void rejectedResultConvertsToPrimitiveWithoutCreatingThrowable() {
+        AtomicInteger calls = new AtomicInteger();
+        Result<String> rejected = Result.rejectLazily(() -> {
+            calls.incrementAndGet();
+            return new IllegalStateException();
+        });
+        LongResult longResult = rejected.exMapToLong(Long::parseLong);
+        DoubleResult doubleResult = rejected.mapToDouble(Double::parseDouble);
+
+        assertTrue(longResult.isRejected());
+        assertTrue(doubleResult.isRejected());
+        assertSame(rejected, longResult.toResult());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void emptyPrimitiveResults() {
+        assertTrue(IntResult.fromResult(Result.empty()).isEmpty());
+        assertEquals(Result.empty(), LongResult.empty().mapToObj(Long::toString));
+        assertEquals(2.5, DoubleResult.empty().map(d -> d * 2).orElse(2.5), 0.0);
+        assertEquals(Result.empty(), DoubleResult.empty().toResult());
+    }
+
+    @Test
+    public void splitToIntStreamSumsWithoutBoxing() {
+        List<IntResult> results = IntStream.range(0, 10_000)
+            .mapToObj(i -> i % 4 == 0 ? IntResult.rejectStackless("bad") : i % 4 == 1 ? IntResult.empty() : IntResult.accept(i))
+            .collect(Collectors.toList());
+
+        long expectedSum = IntStream.range(0, 10_000).filter(i -> i % 4 > 1).asLongStream().sum();
+
+        assertEquals(expectedSum, Results.intValueStream(results).asLongStream().sum());
+
+        IntSplitStream splitStream = Results.splitToIntStream(results.parallelStream());
+        assertEquals(expectedSum, splitStream.getValueStream().parallel().asLongStream().sum());
+        assertEquals(2_500, splitStream.getExceptionStream().count());
+    }
+
+    @Test
+    public void splitToLongAndDoubleStreamsKeepOrder() {
+        LongSplitStream longs = Results.splitToLongStream(Arrays.asList(
+            LongResult.accept(3), LongResult.reject(new Exception()), LongResult.accept(1)));
+        assertEquals(Arrays.asList(3L, 1L), longs.getValueStream().boxed().collect(Collectors.toList()));
+
+        DoubleSplitStream doubles = Results.splitToDoubleStream(Stream.of(DoubleResult.accept(0.5), DoubleResult.empty()));
+        assertEquals(0.5, doubles.getValueStream().sum(), 0.0);
+        assertEquals(0, doubles.getExceptionStream().count());
+    }
+
+    @Test
+    public void valueStreamWithSinkIsLazyAndRoutesRejections() {
+        LongAdder rejections = new LongAdder();
+        AtomicInteger throwablesCreated = new AtomicInteger();
+        Stream<Result<Integer>> infinite = Stream.iterate(0, i -> i + 1)
+            .map(i -> i % 2 == 0 ? Result.accept(i) : Result.rejectLazily(() -> {
+                throwablesCreated.incrementAndGet();
+                return new Exception();
+            }));
+
+        List<Integer> values = Results.valueStream(infinite, RejectionSink.counting(rejections))
+            .limit(5)
+            .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(0, 2, 4, 6, 8), values);
+        assertEquals(4, rejections.sum());
+        assertEquals(0, throwablesCreated.get());
+    }
+
+    @Test
+    public void valueStreamWithQueueSinkDeliversThrowablesInOrder() {
+        Exception first = new Exception();
+        Exception second = new Exception();
+        BlockingQueue<Throwable> queue = new ArrayBlockingQueue<>(2);
+
+        long count = Results.valueStream(
+            Arrays.asList(Result.reject(first), Result.accept("a"), Result.reject(second)),
+            RejectionSink.toQueue(queue)
+        ).count();
+
+        assertEquals(1, count);
+        assertSame(first, queue.poll());
+        assertSame(second, queue.poll());
+    }
+
+    @Test
+    public void asyncResultComposesAndCapturesFailures() {
+        IOException ioException = new IOException();
+        AsyncResult<Integer> length = AsyncResult.of(() -> "four")
+            .exMapAsync(String::length)
+            .thenCompose(n -> AsyncResult.completed(Result.accept(n * 2)));
+        AsyncResult<Integer> failed = AsyncResult.<String>of(() -> { throw ioException; })
+            .exMap(String::length);
+
+        assertEquals(Result.accept(8), length.join());
+        assertSame(ioException, failed.join().getException());
+    }
+
+    @Test
+    public void asyncResultFromFailedStageIsNotDoubleWrapped() {
+        IllegalStateException cause = new IllegalStateException();
+        CompletableFuture<String> stage = CompletableFuture.supplyAsync(() -> { throw cause; });
+
+        Result<String> result = AsyncResult.fromStage(stage).join();
+
+        assertSame(cause, result.getException());
+        try {
+            AsyncResult.fromStage(stage).toStage().toCompletableFuture().join();
+            Assert.fail("toStage should complete exceptionally");
+        } catch (CompletionException ce) {
+            assertSame(cause, ce.getCause());
+        }
+    }
+
+    @Test
+    public void asyncResultTimesOutIntoRejection() {
+        AsyncResult<String> never = AsyncResult.fromStage(new CompletableFuture<String>());
+
+        Result<String> result = never.withTimeout(10, TimeUnit.MILLISECONDS).join();
+
+        assertTrue(result.getException() instanceof TimeoutException);
+    }
+
+    @Test
+    public void asyncResultAllOfAndAnyOf() {
+        Exception exception = new Exception();
+        List<AsyncResult<String>> asyncResults = Arrays.asList(
+            AsyncResult.completed(Result.accept("a")),
+            AsyncResult.completed(Result.reject(exception)));
+
+        assertEquals(Arrays.asList(Result.accept("a"), Result.reject(exception)), AsyncResult.allOf(asyncResults).join().get());
+        assertTrue(AsyncResult.anyOf(asyncResults).join().isAccepted());
+    }
+
+    @Test
+    public void invokeAllReturnsResultsInInputOrderWithinConcurrencyLimit() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<ExceptionalSupplier<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            int n = i;
+            tasks.add(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(1);
+                running.decrementAndGet();
+                if (n == 7) {
+                    throw new IOException();
+                }
+                return n;
+            });
+        }
+
+        List<Result<Integer>> results = Results.invokeAll(tasks, InvokeOptions.builder().concurrency(4).build());
+
+        assertEquals(50, results.size());
+        assertTrue(results.get(7).getException() instanceof IOException);
+        for (int i = 0; i < 50; i++) {
+            if (i != 7) {
+                assertEquals(Integer.valueOf(i), results.get(i).get());
+            }
+        }
+        assertTrue(maxRunning.get() <= 4);
+    }
+
+    @Test
+    public void invokeAllRejectsUnfinishedTasksAfterDeadline() {
+        List<ExceptionalSupplier<String>> tasks = Arrays.asList(
+            () -> "fast",
+            () -> {
+                Thread.sleep(10_000);
+                return "slow";
+            });
+
+        List<Result<String>> results = Results.invokeAllInCompletionOrder(
+            tasks, InvokeOptions.builder().deadline(Duration.ofMillis(100)).build());
+
+        assertEquals(Result.accept("fast"), results.get(0));
+        assertTrue(results.get(1).getException() instanceof TimeoutException);
+    }
+
+    @Test
+    public void exMapAllMapsEveryElementInOrder() {
+        List<Result<String>> inputs = IntStream.range(0, 10_000)
+            .mapToObj(i -> i == 5 ? Result.<String>rejectStackless("bad") : Result.accept(Integer.toString(i)))
+            .collect(Collectors.toList());
+
+        List<Result<Integer>> outputs = Results.exMapAll(inputs, Integer::valueOf, BulkOptions.builder().threshold(64).build());
+
+        assertEquals(10_000, outputs.size());
+        assertEquals("bad", outputs.get(5).getException().getMessage());
+        assertEquals(Integer.valueOf(9_999), outputs.get(9_999).get());
+    }
+
+    @Test
+    public void exMapAllFailFastSkipsRemainingElements() {
+        AtomicInteger calls = new AtomicInteger();
+        @SuppressWarnings("unchecked")
+        Result<Integer>[] inputs = (Result<Integer>[]) new Result<?>[1_000];
+        Arrays.fill(inputs, Result.accept(1));
+
+        Result<Integer>[] outputs = Results.exMapAll(inputs, i -> {
+            calls.incrementAndGet();
+            throw new IOException();
+        }, BulkOptions.builder().threshold(1_000).failFast(true).build());
+
+        assertEquals(1, calls.get());
+        assertTrue(outputs[0].getException() instanceof IOException);
+        assertSame(SkippedException.INSTANCE, outputs[999].getException());
+        SkippedException.INSTANCE.addSuppressed(new IOException());
+        assertEquals(0, SkippedException.INSTANCE.getSuppressed().length);
+    }
+
+    @Test
+    public void sequenceStopsAtFirstRejection() {
+        AtomicInteger pulled = new AtomicInteger();
+        Exception exception = new Exception();
+        Stream<Result<Integer>> stream = Stream.iterate(0, i -> i + 1)
+            .peek(i -> pulled.incrementAndGet())
+            .map(i -> i == 3 ? Result.reject(exception) : Result.accept(i));
+
+        Result<List<Integer>> result = Results.sequence(stream);
+
+        assertSame(exception, result.getException());
+        assertEquals(4, pulled.get());
+        assertEquals(Result.accept(Arrays.asList(1, 2)), Results.sequence(Arrays.asList(Result.accept(1), Result.accept(2))));
+    }
+
+    @Test
+    public void parallelTraverseKeepsOrderAndReturnsEarliestRejection() {
+        List<String> inputs = IntStream.range(0, 100_000).mapToObj(Integer::toString).collect(Collectors.toList());
+
+        Result<List<Integer>> accepted = Results.traverse(inputs.parallelStream(), Integer::valueOf);
+        assertEquals(IntStream.range(0, 100_000).boxed().collect(Collectors.toList()), accepted.get());
+
+        Result<List<Integer>> rejected = Results.traverse(inputs.parallelStream(), s -> {
+            if (s.endsWith("999")) {
+                throw new IOException(s);
+            }
+            return Integer.valueOf(s);
+        });
+        assertTrue(rejected.getException() instanceof IOException);
+        assertEquals("999", rejected.getException().getMessage());
+    }
+
+    @Test
+    public void parallelSequenceReturnsTheSameFirstRejectionsAsSequential() {
+        for (int attempt = 0; attempt < 20; attempt++) {
+            Throwable throwable = Results.sequence(IntStream.range(0, 100_000).parallel()
+                .mapToObj(i -> i % 1000 == 999 ? Result.<Integer>rejectStackless(Integer.toString(i)) : Result.accept(i)),
+                3).getException();
+            List<Throwable> rejections = ((MultipleRejectionsException) throwable).getRejections();
+            assertEquals(Arrays.asList("999", "1999", "2999"),
+                rejections.stream().map(Throwable::getMessage).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void sequenceCollectsUpToMaxErrors() {
+        Stream<Result<Integer>> stream = IntStream.range(0, 100)
+            .mapToObj(i -> i % 10 == 0 ? Result.<Integer>rejectStackless(Integer.toString(i)) : Result.accept(i));
+
+        Throwable throwable = Results.sequence(stream, 3).getException();
+
+        assertTrue(throwable instanceof MultipleRejectionsException);
+        List<Throwable> rejections = ((MultipleRejectionsException) throwable).getRejections();
+        assertEquals(Arrays.asList("0", "10", "20"), rejections.stream().map(Throwable::getMessage).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void acceptReusesResultsForCommonValues() {
+        assertSame(Result.accept(true), Result.accept(Boolean.TRUE));
+        assertSame(Result.accept(100), Result.accept(100));
+        assertSame(IntResult.accept(5), IntResult.accept(2).map(i -> i + 3));
+        assertEquals(Result.accept(1_000), Result.accept(1_000));
+    }
+
+    @Test
+    public void acceptedResultCacheInternsEnabledClasses() {
+        try {
+            AcceptedResultCache.enable(URI.class, 2);
+            Result<URI> first = Result.accept(URI.create("a:b"));
+            assertSame(first, Result.accept(URI.create("a:b")));
+            Result.accept(URI.create("a:c"));
+            assertTrue(Result.accept(URI.create("a:d")) != Result.accept(URI.create("a:d")));
+        } finally {
+            AcceptedResultCache.disable(URI.class);
+        }
+        assertTrue(Result.accept(URI.create("a:b")) != Result.accept(URI.create("a:b")));
+    }
+
+    @Test
+    public void acceptKeepsIdentityOfNonCanonicalBoxes() {
+        Integer nonCanonical = Integer.valueOf(1000);
+        assertSame(nonCanonical, Result.accept(nonCanonical).get());
+    }
+
+    @Test
+    public void emptyMapToNullIsEmpty() {
+        assertEquals(Result.empty(), Result.empty().map(ignored -> null));
+    }
+
+    @Test
+    public void fusedPipelineMatchesChainedMapping() {
+        Function<Result<URL>, Result<String>> pipeline = ResultPipeline.<URL>start()
+            .exMapChecked(URL::toURI, URL.class, URI.class)
+            .map(Paths::get)
+            .exMap(Files::newBufferedReader)
+            .exMap(BufferedReader::lines)
+            .map(stream -> stream.collect(Collectors.toList()))
+            .map(lines -> String.join("\n", lines))
+            .build();
+
+        List<String> fileNameList = Arrays.asList("files/file1.txt", "files/file2.txt", "files/doesnotexist");
+        SplitStream<String> splitStream = Results.splitStream(
+            Stream.concat(
+                fileNameList.stream()
+                    .map(fileName -> ResultTest.class.getClassLoader().getResource(fileName))
+                    .map(Result::requireNonNull),
+                Stream.of("badURL").map(ExceptionalFunctionWrapper.wrap(URL::new))
+            ).map(pipeline)
+        );
+
+        assertEquals(Arrays.asList("line1\nline2\nline3\nline4", "lineA\nlineB\nlineC"),
+            splitStream.getValueStream().collect(Collectors.toList()));
+        List<Throwable> errors = splitStream.getExceptionStream().collect(Collectors.toList());
+        assertTrue(errors.get(0) instanceof NullPointerException);
+        assertTrue(errors.get(1) instanceof MalformedURLException);
+    }
+
+    @Test
+    public void fusedPipelineStopsAtFirstCheckedException() {
+        AtomicInteger laterCalls = new AtomicInteger();
+        IOException ioException = new IOException();
+        Function<Result<String>, Result<Integer>> pipeline = ResultPipeline.start(String.class)
+            .exMap(s -> { throw ioException; })
+            .map(o -> laterCalls.incrementAndGet())
+            .build();
+
+        assertSame(ioException, pipeline.apply(Result.accept("x")).getException());
+        assertEquals(0, laterCalls.get());
+        assertEquals(Result.accept(1), ResultPipeline.start(String.class).map(s -> s == null ? 1 : 2).build().apply(Result.empty()));
+    }
+
+    @Test
+    public void fusedPipelinesOfEveryLengthMatchChainedMapping() {
+        ResultPipeline<Integer, Integer> pipeline = ResultPipeline.start(Integer.class);
+        Result<Integer> chained = Result.accept(0);
+        for (int length = 0; length <= 8; length++) {
+            int step = length;
+            assertEquals(chained, pipeline.build().apply(Result.accept(0)));
+            assertEquals(chained, pipeline.buildForValues().apply(0));
+            if (step % 2 == 0) {
+                pipeline = pipeline.map(i -> i * 10 + step);
+                chained = chained.map(i -> i * 10 + step);
+            } else {
+                pipeline = pipeline.exMap(i -> i * 10 + step);
+                chained = chained.exMap(i -> i * 10 + step);
+            }
+        }
+        assertEquals(Result.accept(12345678), pipeline.build().apply(Result.accept(0)));
+    }
+
+    @Test
+    public void taggedLayoutMatchesClassLayout() {
+        IOException ioException = new IOException();
+        Result<String> accepted = TaggedResult.accepted("12");
+        Result<String> empty = TaggedResult.empty();
+        Result<String> rejected = TaggedResult.rejected(ioException);
+        Result<String> lazy = TaggedResult.rejectedLazily(() -> ioException);
+
+        assertTrue(accepted.isAccepted() && accepted.isPresent() && !accepted.isRejected());
+        assertTrue(empty.isAccepted() && empty.isEmpty() && !empty.isPresent());
+        assertTrue(rejected.isRejected() && lazy.isRejected() && !lazy.isAccepted());
+        assertEquals(Result.accept(12), accepted.exMap(Integer::valueOf));
+        assertEquals(Result.accept(0), empty.map(s -> s == null ? 0 : 1));
+        assertSame(rejected, rejected.map(String::length));
+        assertSame(ioException, lazy.getException());
+        assertEquals(rejected, lazy);
+        assertEquals(12, accepted.mapToInt(Integer::parseInt).get());
+        assertSame(ioException, rejected.mapToLong(String::length).getException());
+        assertSame(ioException, accepted.exMap(s -> { throw ioException; }).getException());
+        assertEquals(Result.accept(2), empty.exMapChecked(s -> 2, String.class, Integer.class));
+    }
+
+    @Test
+    public void outcomeCountersCountByTagAndExceptionType() {
+        OutcomeCounters counters = new OutcomeCounters();
+        ResultInstrumentation.install(counters);
+        try {
+            ExceptionalFunctionWrapper<String, URL> toUrl = ExceptionalFunctionWrapper.wrap("url", URL::new);
+            toUrl.apply("https://example.com");
+            toUrl.apply("badURL");
+            toUrl.apply(null);
+            ExceptionalSupplierWrapper.wrap("supplier", () -> null).get();
+            Result.of(() -> { throw new IOException(); });
+            Result.reject(new IOException());
+        } finally {
+            ResultInstrumentation.uninstall();
+        }
+        Result.reject(new IOException());
+
+        OutcomeCounters.Snapshot snapshot = counters.snapshot();
+        assertEquals(1, snapshot.accepted("url"));
+        assertEquals(2, snapshot.rejected("url"));
+        assertEquals(Long.valueOf(2), snapshot.rejectionsByType("url").get(MalformedURLException.class));
+        assertEquals(1, snapshot.empty("supplier"));
+        assertEquals(Long.valueOf(2), snapshot.rejectionsByType(ResultInstrumentation.UNTAGGED).get(IOException.class));
+        assertEquals(4, snapshot.rejectionsByType().values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(0, snapshot.accepted("missing"));
+    }
+
+    /**
+     * Also run with {@code -Dio.github.mooninaut.result.layout=tagged} by the build, so both layouts are covered.
+     */
+    @Test
+    public void instrumentationSeesExMapBreakerAndMemoizedCallsInEitherLayout() {
+        assertEquals(ResultLayout.TAGGED, Result.accept("x") instanceof TaggedResult);
+        OutcomeCounters counters = new OutcomeCounters();
+        CircuitBreaker breaker = CircuitBreaker.builder("instrumented").minimumCalls(1).build();
+        ExceptionalFunctionWrapper<String, Integer> guarded =
+            ExceptionalFunctionWrapper.withCircuitBreaker(s -> { throw new IOException(); }, breaker);
+        ExceptionalFunctionWrapper<String, Integer> memoized = ExceptionalFunctionWrapper.memoizing(String::length);
+        ResultInstrumentation.install(counters);
+        try {
+            Result<String> accepted = Result.accept("x");
+            accepted.exMap(String::length);
+            accepted.exMap(s -> { throw new IOException(); });
+            guarded.apply("x");
+            guarded.apply("x");
+            memoized.apply("x");
+            memoized.apply("x");
+        } finally {
+            ResultInstrumentation.uninstall();
+        }
+
+        OutcomeCounters.Snapshot snapshot = counters.snapshot();
+        assertEquals(2, snapshot.accepted(ResultInstrumentation.UNTAGGED));
+        assertEquals(3, snapshot.rejected(ResultInstrumentation.UNTAGGED));
+        assertEquals(Long.valueOf(2), snapshot.rejectionsByType().get(IOException.class));
+        assertEquals(Long.valueOf(1), snapshot.rejectionsByType().get(CircuitBreakerOpenException.class));
+    }
+
+    @Test
+    public void instrumentationSeesStacklessLazyPipelineBatchedAndPrimitiveRejections() {
+        OutcomeCounters counters = new OutcomeCounters();
+        Function<Result<String>, Result<Integer>> pipeline = ResultPipeline.start(String.class)
+            .exMap(s -> { throw new IOException(s); })
+            .map(Object::hashCode)
+            .build();
+        AtomicInteger lazyCalls = new AtomicInteger();
+        ResultInstrumentation.install(counters);
+        try {
+            Result.rejectStackless("stackless");
+            Result.rejectLazily(() -> {
+                lazyCalls.incrementAndGet();
+                return new IOException();
+            }).getException();
+            pipeline.apply(Result.accept("x"));
+            IntResult.accept(1).exMapToObj(i -> { throw new IOException(); });
+            Results.exMapBatched(Stream.of(Result.accept(1), Result.accept(2)), batch -> { throw new IOException(); }, 2)
+                .forEach(result -> { });
+        } finally {
+            ResultInstrumentation.uninstall();
+        }
+        Result.rejectLazily(() -> {
+            lazyCalls.incrementAndGet();
+            return new IOException();
+        });
+
+        OutcomeCounters.Snapshot snapshot = counters.snapshot();
+        assertEquals(6, snapshot.rejected(ResultInstrumentation.UNTAGGED));
+        assertEquals(Long.valueOf(1), snapshot.rejectionsByType().get(StacklessException.class));
+        assertEquals(Long.valueOf(5), snapshot.rejectionsByType().get(IOException.class));
+        assertEquals(1, lazyCalls.get());
+    }
+
+    @Test
+    public void latencyHistogramPercentilesAreWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.record(i * 1000);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100_000, snapshot.count());
+        assertEquals(100_000_000, snapshot.max());
+        for (double percentile : new double[] {50, 90, 99, 99.9}) {
+            double expected = percentile * 1_000_000;
+            double actual = snapshot.valueAtPercentile(percentile);
+            assertTrue(percentile + ": " + actual, actual >= expected && actual <= expected * (1 + 1.0 / LatencyHistogram.SUB_BUCKETS));
+        }
+        assertEquals(100_000_000, snapshot.valueAtPercentile(100));
+        for (long value = 0; value < 1L << 40; value = value * 3 + 1) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(value <= LatencyHistogram.bucketUpperBound(index));
+            assertTrue(index == 0 || value > LatencyHistogram.bucketUpperBound(index - 1));
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void timedWrapperSeparatesAcceptedAndRejectedLatency() {
+        TimedExceptionalFunctionWrapper<String, URL> toUrl = ExceptionalFunctionWrapper.timed(URL::new);
+        assertTrue(toUrl.apply("https://example.com").isPresent());
+        assertTrue(toUrl.apply("badURL").isRejected());
+        assertTrue(toUrl.apply("alsoBad").isRejected());
+
+        assertEquals(1, toUrl.getAcceptedLatency().snapshot().count());
+        assertEquals(2, toUrl.getRejectedLatency().snapshot().count());
+        assertTrue(toUrl.getRejectedLatency().snapshot().valueAtPercentile(99) > 0);
+    }
+
+    @Test
+    public void retryingSupplierRetriesMatchingFailuresOnly() {
+        RetryPolicy policy = RetryPolicy.builder()
+            .maxAttempts(4)
+            .backoff(Duration.ofMillis(1), Duration.ofMillis(5))
+            .retryOn(TimeoutException.class)
+            .build();
+        AtomicInteger calls = new AtomicInteger();
+        Result<Integer> eventually = ExceptionalSupplierWrapper.retrying(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new TimeoutException();
+            }
+            return calls.get();
+        }, policy).get();
+        assertEquals(Result.accept(3), eventually);
+
+        calls.set(0);
+        Result<Integer> exhausted = ExceptionalSupplierWrapper.<Integer>retrying(() -> {
+            calls.incrementAndGet();
+            throw new TimeoutException();
+        }, policy).get();
+        assertTrue(exhausted.getException() instanceof TimeoutException);
+        assertEquals(4, calls.get());
+
+        calls.set(0);
+        Result<URL> notRetried = ExceptionalFunctionWrapper.<String, URL>retrying(spec -> {
+            calls.incrementAndGet();
+            return new URL(spec);
+        }, policy).apply("badURL");
+        assertTrue(notRetried.getException() instanceof MalformedURLException);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void retryStopsAtDeadline() {
+        RetryPolicy policy = RetryPolicy.builder()
+            .maxAttempts(Integer.MAX_VALUE)
+            .backoff(Duration.ofMillis(20), Duration.ofMillis(20))
+            .jitter(0)
+            .deadline(Duration.ofMillis(100))
+            .build();
+        AtomicInteger calls = new AtomicInteger();
+        Result<Object> result = ExceptionalSupplierWrapper.retrying(() -> {
+            calls.incrementAndGet();
+            throw new IOException();
+        }, policy).get();
+        assertTrue(result.getException() instanceof IOException);
+        assertTrue(String.valueOf(calls.get()), calls.get() >= 2 && calls.get() <= 6);
+    }
+
+    @Test
+    public void asyncRetrySchedulesAttemptsWithoutBlocking() {
+        RetryPolicy policy = RetryPolicy.builder()
+            .maxAttempts(5)
+            .backoff(Duration.ofMillis(10), Duration.ofMillis(50))
+            .build();
+        AtomicInteger calls = new AtomicInteger();
+        AsyncResult<Integer> retried = AsyncResult.retrying(() -> {
+            if (calls.incrementAndGet() < 4) {
+                throw new IllegalStateException("transient");
+            }
+            return calls.get();
+        }, policy, Runnable::run);
+        assertEquals(Result.accept(4), retried.withTimeout(5, TimeUnit.SECONDS).join());
+
+        AsyncResult<Integer> failed = AsyncResult.retry(
+            () -> AsyncResult.completed(Result.<Integer>reject(new InterruptedException())), policy);
+        assertTrue(failed.join().getException() instanceof InterruptedException);
+    }
+
+    @Test
+    public void circuitBreakerOpensShortCircuitsAndRecoversThroughHalfOpen() {
+        List<String> transitions = new ArrayList<>();
+        AtomicLong nanoTime = new AtomicLong();
+        CircuitBreaker breaker = CircuitBreaker.builder("downstream")
+            .minimumCalls(4)
+            .failureRateThreshold(0.5)
+            .openDuration(Duration.ofMillis(50))
+            .halfOpenProbes(2)
+            .listener((cb, from, to) -> transitions.add(from + "->" + to))
+            .clock(nanoTime::get)
+            .build();
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger failuresLeft = new AtomicInteger(3);
+        ExceptionalSupplierWrapper<Integer> guarded = ExceptionalSupplierWrapper.withCircuitBreaker(() -> {
+            calls.incrementAndGet();
+            if (failuresLeft.getAndDecrement() > 0) {
+                throw new IOException("down");
+            }
+            return 1;
+        }, breaker);
+
+        failuresLeft.set(2);
+        assertTrue(guarded.get().isRejected());
+        assertTrue(guarded.get().isRejected());
+        assertTrue(guarded.get().isAccepted());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        failuresLeft.set(1);
+        assertTrue(guarded.get().isRejected());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        Result<Integer> shortCircuited = guarded.get();
+        assertSame(shortCircuited, guarded.get());
+        assertTrue(shortCircuited.getException() instanceof CircuitBreakerOpenException);
+        assertEquals(4, calls.get());
+
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(49));
+        assertSame(shortCircuited, guarded.get());
+        assertEquals(4, calls.get());
+
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        failuresLeft.set(1);
+        assertTrue(guarded.get().isRejected());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        assertTrue(guarded.get().isAccepted());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(guarded.get().isAccepted());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getFailureRate(), 0);
+
+        assertEquals(Arrays.asList("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->OPEN",
+            "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"), transitions);
+    }
+
+    @Test
+    public void memoizingWrapperCachesEvictsAndExpires() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        MemoizingExceptionalFunctionWrapper<String, Integer> lengths = ExceptionalFunctionWrapper.memoizing(
+            s -> {
+                calls.incrementAndGet();
+                if (s.isEmpty()) {
+                    throw new IOException("empty");
+                }
+                return s.length();
+            },
+            MemoizeOptions.builder().maximumSize(2).expireAfterWrite(Duration.ofMillis(200)).build());
+
+        assertEquals(Result.accept(1), lengths.apply("a"));
+        assertEquals(Result.accept(2), lengths.apply("bb"));
+        assertEquals(Result.accept(1), lengths.apply("a"));
+        assertEquals(2, calls.get());
+        lengths.apply("ccc");
+        lengths.apply("a");
+        lengths.apply("bb");
+        assertEquals(4, calls.get());
+        assertEquals(2, lengths.size());
+
+        assertTrue(lengths.apply("").isRejected());
+        assertTrue(lengths.apply("").isRejected());
+        assertEquals(6, calls.get());
+
+        Thread.sleep(250);
+        lengths.apply("a");
+        assertEquals(7, calls.get());
+        MemoizingExceptionalFunctionWrapper.Stats stats = lengths.getStats();
+        assertEquals(2, stats.hitCount());
+        assertEquals(7, stats.missCount());
+        assertTrue(stats.evictionCount() >= 2);
+
+        MemoizingExceptionalFunctionWrapper<String, Integer> negative = ExceptionalFunctionWrapper.memoizing(
+            s -> {
+                calls.incrementAndGet();
+                throw new IOException(s);
+            },
+            MemoizeOptions.builder().expireRejectedAfterWrite(Duration.ofMinutes(1)).build());
+        calls.set(0);
+        Result<Integer> first = negative.apply("x");
+        assertSame(first, negative.apply("x"));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void memoizingWrapperCoalescesConcurrentLoads() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        MemoizingExceptionalFunctionWrapper<String, Integer> slow = ExceptionalFunctionWrapper.memoizing(s -> {
+            calls.incrementAndGet();
+            release.await();
+            return s.length();
+        });
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Result<Integer>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(pool.submit(() -> slow.apply("herd")));
+            }
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<Result<Integer>> future : futures) {
+                assertEquals(Result.accept(4), future.get());
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(1, calls.get());
+        assertEquals(7, slow.getStats().waitCount() + slow.getStats().hitCount());
+    }
+
+    @Test
+    public void lazyResultDefersEvaluationAndEvaluatesOnce() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger mapCalls = new AtomicInteger();
+        Result<String> lazy = Result.lazy(() -> {
+            calls.incrementAndGet();
+            return "https://example.com";
+        });
+        Result<URL> url = lazy.exMap(URL::new);
+        Result<Integer> chain = url.map(u -> {
+            mapCalls.incrementAndGet();
+            return u.getHost().length();
+        });
+        assertEquals(0, calls.get());
+        assertEquals("Result: lazy, not yet evaluated", chain.toString());
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(chain::isAccepted);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(Integer.valueOf(11), chain.get());
+        assertEquals(Result.accept(11), chain);
+        assertEquals(1, calls.get());
+        assertEquals(1, mapCalls.get());
+        assertTrue(((LazyResult<String>) lazy).isEvaluated());
+
+        Result<Object> rejected = Result.lazy(() -> { throw new IOException(); });
+        assertTrue(rejected.map(Object::toString).getException() instanceof IOException);
+    }
+
+    @Test
+    public void lazyResultRemembersUncheckedFailure() {
+        AtomicInteger mapCalls = new AtomicInteger();
+        Result<Integer> failing = Result.lazy(() -> "x").map(s -> {
+            mapCalls.incrementAndGet();
+            throw new IllegalStateException(s);
+        });
+        Result<Integer> downstream = failing.map(i -> i + 1);
+        IllegalStateException first = null;
+        try {
+            failing.isAccepted();
+        } catch (IllegalStateException thrown) {
+            first = thrown;
+        }
+        assertNotNull(first);
+        for (Result<Integer> result : Arrays.asList(failing, downstream)) {
+            try {
+                result.get();
+                Assert.fail();
+            } catch (IllegalStateException thrown) {
+                assertSame(first, thrown);
+            }
+        }
+        assertEquals(1, mapCalls.get());
+    }
+
+    @Test
+    public void longLazyChainEvaluatesWithoutDeepRecursion() {
+        Result<Integer> chain = Result.lazy(() -> 0);
+        for (int i = 0; i < 200_000; i++) {
+            chain = chain.map(n -> n + 1);
+        }
+        assertEquals(Integer.valueOf(200_000), chain.get());
+    }
+
+    @Test
+    public void partitionMatchesSplitStreamInOrder() {
+        IOException[] errors = new IOException[7];
+        List<Result<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            if (i % 1_429 == 0) {
+                errors[i / 1_429] = new IOException(Integer.toString(i));
+                results.add(Result.reject(errors[i / 1_429]));
+            } else {
+                results.add(i % 3 == 0 ? Result.empty() : Result.accept(i));
+            }
+        }
+        SplitStream<Integer> expected = Results.splitStream(results);
+        SplitStream<Integer> actual = Results.partition(results, BulkOptions.builder().threshold(100).build());
+        assertEquals(expected.getValueStream().collect(Collectors.toList()),
+            actual.getValueStream().collect(Collectors.toList()));
+        assertEquals(Arrays.asList(errors), actual.getExceptionStream().collect(Collectors.toList()));
+
+        @SuppressWarnings("unchecked")
+        Result<Integer>[] array = results.toArray((Result<Integer>[]) new Result<?>[0]);
+        assertEquals(10_000 - 7, Results.partition(array).getValueStream().count());
+        assertEquals(0, Results.partition(new ArrayList<Result<Integer>>()).getExceptionStream().count());
+    }
+
+    @Test
+    public void concurrentSplitCollectorKeepsEveryElement() {
+        IOException ioException = new IOException();
+        List<Result<Integer>> results = IntStream.range(0, 100_000)
+            .mapToObj(i -> i % 10 == 0 ? Result.<Integer>reject(ioException) : Result.accept(i))
+            .collect(Collectors.toList());
+
+        SplitStream<Integer> split = Results.splitStreamUnordered(results.parallelStream());
+        List<Integer> values = split.getValueStream().sorted().collect(Collectors.toList());
+        assertEquals(results.stream().filter(Result::isAccepted).map(Result::get).collect(Collectors.toList()), values);
+        assertEquals(10_000, split.getExceptionStream().filter(e -> e == ioException).count());
+
+        SplitStream<Integer> ordered = results.parallelStream().collect(Results.concurrentSplitCollector());
+        assertEquals(90_000, ordered.getValueStream().count());
+        assertTrue(Results.<Integer>concurrentSplitCollector().characteristics()
+            .contains(Collector.Characteristics.CONCURRENT));
+    }
+
+    @Test
+    public void summarizingCountsEachOutcome() {
+        OutcomeSummary summary = Stream.of(
+                Result.accept("a"),
+                Result.<String>reject(new IllegalStateException()),
+                Result.<String>empty(),
+                Result.<String>reject(new IllegalArgumentException()),
+                Result.accept("b"))
+            .collect(Results.summarizing());
+        assertEquals(2, summary.getPresent());
+        assertEquals(1, summary.getEmpty());
+        assertEquals(3, summary.getAccepted());
+        assertEquals(2, summary.getRejected());
+        assertEquals(5, summary.getTotal());
+        assertEquals(0, Results.summarize(Stream.<Result<String>>empty()).getTotal());
+    }
+
+    @Test
+    public void summarizingKeepsFirstExemplarsInEncounterOrder() {
+        IllegalStateException first = new IllegalStateException("first");
+        IllegalArgumentException second = new IllegalArgumentException("second");
+        OutcomeSummary summary = Stream.of(
+                Result.accept("a"),
+                Result.<String>reject(first),
+                Result.<String>reject(second),
+                Result.<String>reject(new IllegalStateException("third")))
+            .collect(Results.summarizing(2));
+        assertEquals(Arrays.asList(first, second), summary.getExemplars());
+        assertEquals(Arrays.asList(IllegalStateException.class, IllegalArgumentException.class),
+            new ArrayList<>(summary.getRejectionsByType().keySet()));
+        assertEquals(Long.valueOf(2), summary.getRejectionsByType().get(IllegalStateException.class));
+    }
+
+    @Test
+    public void parallelSummarizingMergesCountsAndCapsExemplars() {
+        OutcomeSummary summary = IntStream.range(0, 100_000).boxed().parallel()
+            .map(i -> i % 10 == 0 ? Result.<Integer>reject(new ArithmeticException()) : Result.accept(i))
+            .collect(Results.summarizing());
+        assertEquals(90_000, summary.getPresent());
+        assertEquals(Long.valueOf(10_000), summary.getRejectionsByType().get(ArithmeticException.class));
+        assertEquals(OutcomeSummary.DEFAULT_EXEMPLARS, summary.getExemplars().size());
+    }
+
+    @Test
+    public void groupingByExceptionRoutesToFirstAssignableRoute() {
+        NumberFormatException badNumber = new NumberFormatException();
+        IllegalStateException illegalState = new IllegalStateException();
+        Exception unmatched = new Exception();
+        List<Result<String>> results = Arrays.asList(
+            Result.accept("a"),
+            Result.reject(new FileNotFoundException()),
+            Result.reject(badNumber),
+            Result.empty(),
+            Result.reject(illegalState),
+            Result.reject(new IOException()),
+            Result.reject(unmatched));
+        ExceptionGroups<String> groups = results.stream().collect(Results.groupingByException(
+            IOException.class, IllegalArgumentException.class, RuntimeException.class));
+        assertEquals(Arrays.asList("a", null), groups.getValues());
+        assertEquals(Arrays.asList(IOException.class, IllegalArgumentException.class, RuntimeException.class),
+            new ArrayList<>(groups.getGroups().keySet()));
+        assertEquals(2, groups.getGroup(IOException.class).size());
+        assertEquals(Arrays.asList(badNumber), groups.getGroup(IllegalArgumentException.class));
+        assertEquals(Arrays.asList(illegalState), groups.getGroup(RuntimeException.class));
+        assertEquals(Arrays.asList(unmatched), groups.getUnmatched());
+    }
+
+    @Test
+    public void exceptionGroupsRejectLookupsOfClassesThatAreNotRoutes() {
+        ExceptionGroups<String> groups = Stream.of(Result.<String>reject(new IOException()))
+            .collect(Results.groupingByException(IOException.class));
+        Assert.assertThrows(IllegalArgumentException.class, () -> groups.getGroup(Exception.class));
+    }
+
+    @Test
+    public void parallelGroupingByExceptionKeepsEncounterOrder() {
+        ExceptionGroups<String> groups = IntStream.range(0, 100_000).boxed().parallel()
+            .map(i -> i % 3 == 0 ? Result.<String>reject(new IOException(String.valueOf(i))) : Result.accept("v" + i))
+            .collect(Results.groupingByException(IOException.class, RuntimeException.class));
+        List<IOException> io = groups.getGroup(IOException.class);
+        assertEquals(33_334, io.size());
+        assertEquals("0", io.get(0).getMessage());
+        assertEquals("99999", io.get(io.size() - 1).getMessage());
+        assertEquals("v1", groups.getValues().get(0));
+        assertTrue(groups.getGroup(RuntimeException.class).isEmpty());
+    }
+
+    @Test
+    public void groupingByExceptionRejectsMissingOrRepeatedRoutes() {
+        Assert.assertThrows(IllegalArgumentException.class, Results::<String>groupingByException);
+        Assert.assertThrows(IllegalArgumentException.class,
+            () -> Results.<String>groupingByException(IOException.class, IOException.class));
+    }
+
+    @Test
+    public void exMapBatchedGroupsAcceptedValuesAndPassesRejectionsThrough() {
+        List<List<Integer>> batches = new ArrayList<>();
+        IOException rejectedInput = new IOException("input");
+        List<Result<String>> outputs = Results.<Integer, String>exMapBatched(
+            IntStream.range(0, 10).mapToObj(i -> i == 4 ? Result.<Integer>reject(rejectedInput) : Result.accept(i)),
+            batch -> {
+                batches.add(batch);
+                return batch.stream().map(i -> "v" + i).collect(Collectors.toList());
+            }, 4).collect(Collectors.toList());
+        assertEquals(Arrays.asList(Arrays.asList(0, 1, 2, 3), Arrays.asList(5, 6, 7, 8), Arrays.asList(9)), batches);
+        assertEquals(10, outputs.size());
+        assertEquals("v3", outputs.get(3).get());
+        assertSame(rejectedInput, outputs.get(4).getException());
+        assertEquals("v5", outputs.get(5).get());
+        assertEquals("v9", outputs.get(9).get());
+    }
+
+    @Test
+    public void exMapBatchedRejectsTheWholeBatchOnCheckedException() {
+        List<Result<String>> outputs = Results.<Integer, String>exMapBatched(
+            IntStream.range(0, 6).mapToObj(Result::accept),
+            batch -> {
+                if (batch.contains(4)) {
+                    throw new IOException("batch");
+                }
+                return batch.stream().map(i -> "v" + i).collect(Collectors.toList());
+            }, 3).collect(Collectors.toList());
+        assertEquals("v2", outputs.get(2).get());
+        assertEquals("batch", outputs.get(3).getException().getMessage());
+        assertSame(outputs.get(3).getException(), outputs.get(5).getException());
+    }
+
+    @Test
+    public void exMapBatchedResultsRejectsIndividualItemsInParallel() {
+        List<Result<Integer>> outputs = Results.<Integer, Integer>exMapBatchedResults(
+            IntStream.range(0, 1_000).boxed().map(Result::accept).parallel(),
+            batch -> batch.stream()
+                .map(i -> i % 7 == 0 ? Result.<Integer>reject(new IOException()) : Result.accept(i * 2))
+                .collect(Collectors.toList()),
+            16, Duration.ofSeconds(1)).collect(Collectors.toList());
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(i % 7 == 0, outputs.get(i).isRejected());
+            if (i % 7 != 0) {
+                assertEquals(Integer.valueOf(i * 2), outputs.get(i).get());
+            }
+        }
+    }
+
+    @Test
+    public void exMapBatchedCallsTheBatchFunctionOnlyAsOutputsAreNeeded() {
+        AtomicInteger calls = new AtomicInteger();
+        Stream<Result<String>> outputs = Results.exMapBatched(IntStream.range(0, 10).mapToObj(Result::accept), batch -> {
+            calls.incrementAndGet();
+            return batch.stream().map(String::valueOf).collect(Collectors.toList());
+        }, 2);
+        assertEquals(0, calls.get());
+        assertEquals(3, outputs.limit(3).collect(Collectors.toList()).size());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void exMapBatchedThrowsWhenTheBatchFunctionReturnsTheWrongNumberOfOutputs() {
+        Assert.assertThrows(IllegalStateException.class, () ->
+            Results.<Integer, Integer>exMapBatched(IntStream.range(0, 3).mapToObj(Result::accept),
+                batch -> Arrays.asList(1), 3)
+                .collect(Collectors.toList()));
+    }
 }
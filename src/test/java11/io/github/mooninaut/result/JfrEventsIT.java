@@ -0,0 +1,76 @@
+package io.github.mooninaut.result;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/*
+ * JfrEventsIT.java
+ * Copyright 2020 Clement Cherlin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Smoke test for the Java 11 classes in the multi-release jar. Run by failsafe against the packaged jar, since
+ * only a jar on a Java 11+ runtime loads them instead of the no-op Java 8 versions.
+ */
+public class JfrEventsIT {
+
+    @Test
+    public void recordsRejectedAndWrappedCallEvents() throws IOException {
+        assertTrue("must run from the multi-release jar, not target/classes",
+            JfrEvents.class.getProtectionDomain().getCodeSource().getLocation().getPath().endsWith(".jar"));
+
+        Path file = Files.createTempFile("result", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.github.mooninaut.result.Rejected");
+            recording.enable("io.github.mooninaut.result.WrappedCall").withThreshold(Duration.ZERO);
+            recording.start();
+            Result.reject(new IOException());
+            ExceptionalFunctionWrapper.wrap("jfr", (String s) -> s.length()).apply("x");
+            Result.accept("x").exMap(s -> { throw new IOException(); });
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            List<RecordedEvent> rejected = byName(events, "io.github.mooninaut.result.Rejected");
+            List<RecordedEvent> calls = byName(events, "io.github.mooninaut.result.WrappedCall");
+            assertEquals(2, rejected.size());
+            assertEquals(IOException.class.getName(), rejected.get(0).getClass("exceptionClass").getName());
+            assertEquals(2, calls.size());
+            assertEquals("jfr", calls.get(0).getString("tag"));
+            assertTrue(calls.get(1).getBoolean("rejected"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<RecordedEvent> byName(List<RecordedEvent> events, String name) {
+        return events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+            .collect(Collectors.toList());
+    }
+}